@@ -5,8 +5,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,7 +19,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.datajdbc.dto.ProductQuery;
+import com.example.datajdbc.dto.SliceResponse;
 import com.example.datajdbc.entity.Product;
+import com.example.datajdbc.exception.InvalidProductQueryException;
 import com.example.datajdbc.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -34,6 +40,14 @@ public class ProductController {
         return productService.getAllProducts();
     }
     
+    // 조건 조합 조회 (페이지 단위)
+    // 예) /api/products/query?category=Books&minPrice=20&maxPrice=50&inStock=true&sort=price,desc
+    @GetMapping("/query")
+    public SliceResponse<Product> queryProducts(ProductQuery query,
+                                                @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return SliceResponse.of(productService.queryProducts(query, pageable));
+    }
+    
     // ID로 상품 조회
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
@@ -164,4 +178,10 @@ public class ProductController {
             return ResponseEntity.badRequest().body("예제 실행 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-} 
\ No newline at end of file
+    
+    // 잘못된 조회 조건 (정렬 속성, 가격 범위)
+    @ExceptionHandler(InvalidProductQueryException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidQuery(InvalidProductQueryException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
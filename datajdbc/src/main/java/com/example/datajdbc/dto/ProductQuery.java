@@ -0,0 +1,16 @@
+package com.example.datajdbc.dto;
+
+/**
+ * 상품 조회 조건
+ * null 인 조건은 적용하지 않으며, 지정된 조건은 모두 AND 로 묶여 하나의 SQL 로 실행된다.
+ *
+ * @param name 상품명 (정확히 일치)
+ * @param keyword 상품명 포함 검색어 (대소문자 무시)
+ * @param category 카테고리
+ * @param minPrice 최소 가격 (포함)
+ * @param maxPrice 최대 가격 (포함)
+ * @param inStock 재고 여부
+ */
+public record ProductQuery(String name, String keyword, String category,
+                           Double minPrice, Double maxPrice, Boolean inStock) {
+}
@@ -0,0 +1,16 @@
+package com.example.datajdbc.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * 목록 조회 응답 형식
+ * 전체 개수를 세지 않는 Slice 기반이므로 다음 페이지 존재 여부만 알려준다.
+ */
+public record SliceResponse<T>(List<T> content, int page, int size, boolean hasNext) {
+
+    public static <T> SliceResponse<T> of(Slice<T> slice) {
+        return new SliceResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.datajdbc.exception;
+
+/**
+ * 잘못된 상품 조회 조건(정렬 속성, 가격 범위) 예외
+ */
+public class InvalidProductQueryException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidProductQueryException(String message) {
+        super(message);
+    }
+}
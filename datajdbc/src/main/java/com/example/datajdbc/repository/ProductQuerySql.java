@@ -0,0 +1,109 @@
+package com.example.datajdbc.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import com.example.datajdbc.dto.ProductQuery;
+import com.example.datajdbc.exception.InvalidProductQueryException;
+
+/**
+ * 상품 조건 조회 SQL 생성기
+ * 지정된 조건만 WHERE 절에 넣고, 정렬과 LIMIT/OFFSET 까지 SQL 한 문장으로 만든다.
+ * 정렬 컬럼은 화이트리스트에서만 고르므로 요청 값이 SQL 에 그대로 들어가지 않는다.
+ *
+ * @param sql 실행할 SQL
+ * @param parameters 바인딩 파라미터
+ */
+public record ProductQuerySql(String sql, MapSqlParameterSource parameters) {
+
+    private static final String SELECT = "SELECT id, name, price, description, category, in_stock FROM products";
+
+    // 정렬 속성 -> 컬럼
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "name", "name",
+            "price", "price",
+            "category", "category");
+
+    /**
+     * 조회 조건과 페이지 정보로 SQL 생성 (다음 페이지 확인을 위해 size + 1 건 조회)
+     * @throws InvalidProductQueryException 정렬할 수 없는 속성이거나 가격 범위가 잘못된 경우
+     */
+    public static ProductQuerySql of(ProductQuery query, Pageable pageable) {
+        if (query.minPrice() != null && query.maxPrice() != null && query.minPrice() > query.maxPrice()) {
+            throw new InvalidProductQueryException("최소 가격이 최대 가격보다 큽니다: " + query.minPrice() + " > " + query.maxPrice());
+        }
+
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        // (category, price) 인덱스를 탈 수 있도록 등호 조건을 먼저 둔다
+        if (query.category() != null) {
+            conditions.add("category = :category");
+            parameters.addValue("category", query.category());
+        }
+        if (query.name() != null) {
+            conditions.add("name = :name");
+            parameters.addValue("name", query.name());
+        }
+        if (query.inStock() != null) {
+            conditions.add("in_stock = :inStock");
+            parameters.addValue("inStock", query.inStock());
+        }
+        if (query.minPrice() != null) {
+            conditions.add("price >= :minPrice");
+            parameters.addValue("minPrice", query.minPrice());
+        }
+        if (query.maxPrice() != null) {
+            conditions.add("price <= :maxPrice");
+            parameters.addValue("maxPrice", query.maxPrice());
+        }
+        if (query.keyword() != null && !query.keyword().isBlank()) {
+            // 검색어의 %, _ 는 문자 그대로 찾는다
+            conditions.add("LOWER(name) LIKE :keyword ESCAPE '\\'");
+            parameters.addValue("keyword", "%" + escapeLike(query.keyword().toLowerCase(Locale.ROOT)) + "%");
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            String column = SORTABLE_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidProductQueryException("정렬할 수 없는 속성입니다: " + order.getProperty()
+                        + " (가능: " + SORTABLE_COLUMNS.keySet() + ")");
+            }
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        if (!orders.isEmpty()) {
+            sql.append(" ORDER BY ").append(String.join(", ", orders));
+        }
+
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT :limit OFFSET :offset");
+            parameters.addValue("limit", pageable.getPageSize() + 1);
+            parameters.addValue("offset", pageable.getOffset());
+        }
+        return new ProductQuerySql(sql.toString(), parameters);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -10,7 +10,9 @@ import org.springframework.stereotype.Repository;
 import com.example.datajdbc.entity.Product;
 
 @Repository
-public interface ProductRepository extends CrudRepository<Product, Long> {
+public interface ProductRepository extends CrudRepository<Product, Long>, ProductRepositoryCustom {
+    
+    // 조건 조합 조회는 ProductRepositoryCustom.findByQuery(ProductQuery, Pageable) 사용
     
     // 이름으로 상품 찾기
     List<Product> findByName(String name);
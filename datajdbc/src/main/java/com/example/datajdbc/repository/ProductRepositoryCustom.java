@@ -0,0 +1,21 @@
+package com.example.datajdbc.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.example.datajdbc.dto.ProductQuery;
+import com.example.datajdbc.entity.Product;
+
+/**
+ * ProductRepository 사용자 정의 조회
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 조건과 정렬을 하나의 SQL 로 실행해 Slice 단위로 조회
+     * @param query 조회 조건
+     * @param pageable 페이지와 정렬
+     * @return 상품 Slice
+     */
+    Slice<Product> findByQuery(ProductQuery query, Pageable pageable);
+}
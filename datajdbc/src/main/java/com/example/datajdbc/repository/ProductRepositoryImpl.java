@@ -0,0 +1,40 @@
+package com.example.datajdbc.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.example.datajdbc.dto.ProductQuery;
+import com.example.datajdbc.entity.Product;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ProductRepositoryCustom 구현 (NamedParameterJdbcTemplate)
+ * Spring Data JDBC 에는 Specification 이 없으므로 ProductQuerySql 로 SQL 을 직접 조합한다.
+ */
+@RequiredArgsConstructor
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = new BeanPropertyRowMapper<>(Product.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Slice<Product> findByQuery(ProductQuery query, Pageable pageable) {
+        ProductQuerySql querySql = ProductQuerySql.of(query, pageable);
+        List<Product> rows = jdbcTemplate.query(querySql.sql(), querySql.parameters(), PRODUCT_ROW_MAPPER);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(rows);
+        }
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Product> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
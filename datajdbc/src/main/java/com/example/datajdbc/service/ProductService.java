@@ -4,8 +4,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import com.example.datajdbc.dto.ProductQuery;
 import com.example.datajdbc.entity.Product;
 import com.example.datajdbc.repository.ProductRepository;
 
@@ -88,6 +91,11 @@ public class ProductService {
         return productRepository.findByNameContainingIgnoreCase(keyword);
     }
     
+    // 조건 조합 조회 (조건, 정렬, 페이지를 SQL 한 문장으로 실행)
+    public Slice<Product> queryProducts(ProductQuery query, Pageable pageable) {
+        return productRepository.findByQuery(query, pageable);
+    }
+    
     // 가격 기준 정렬
     public List<Product> getProductsSortedByPriceAsc() {
         return productRepository.findAllByOrderByPriceAsc();
@@ -26,7 +26,7 @@ CREATE TABLE users (
 );
 
 -- 인덱스 생성
-CREATE INDEX idx_products_category ON products(category);
+CREATE INDEX idx_products_category_price ON products(category, price); -- 카테고리 조건 + 가격 범위/정렬
 CREATE INDEX idx_products_price ON products(price);
 CREATE INDEX idx_products_in_stock ON products(in_stock);
 CREATE INDEX idx_users_username ON users(username);
@@ -0,0 +1,118 @@
+package com.example.datajdbc.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.example.datajdbc.dto.ProductQuery;
+import com.example.datajdbc.entity.Product;
+import com.example.datajdbc.exception.InvalidProductQueryException;
+
+/**
+ * 조건 조합 조회 실행 계획 테스트
+ * 조건과 정렬이 SQL 하나로 만들어지고, H2 EXPLAIN 결과에서 인덱스를 사용하는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:product-query-plan;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+    "logging.level.org.springframework.jdbc=INFO"
+})
+class ProductQueryPlanTest {
+
+    private static final int PRODUCT_COUNT = 20_000;
+    private static final String[] CATEGORIES = {"Electronics", "Books", "Clothing", "Home", "Sports"};
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void seed() {
+        if (productRepository.count() >= PRODUCT_COUNT) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            rows.add(new Object[] {
+                "상품 " + i, 10.0 + (i * 37) % 2_000, CATEGORIES[i % CATEGORIES.length], i % 10 != 0
+            });
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "INSERT INTO products (name, price, category, in_stock) VALUES (?, ?, ?, ?)", rows);
+        jdbcTemplate.getJdbcTemplate().execute("ANALYZE");
+    }
+
+    @Test
+    void combinedFilterBuildsOneStatementOnCategoryPriceIndex() {
+        ProductQuery query = new ProductQuery(null, null, "Books", 100.0, 500.0, true);
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by("price"));
+
+        ProductQuerySql querySql = ProductQuerySql.of(query, pageable);
+        assertThat(querySql.sql()).isEqualTo("SELECT id, name, price, description, category, in_stock FROM products"
+                + " WHERE category = :category AND in_stock = :inStock AND price >= :minPrice AND price <= :maxPrice"
+                + " ORDER BY price ASC LIMIT :limit OFFSET :offset");
+        assertThat(explain(querySql)).containsIgnoringCase("idx_products_category_price");
+
+        Slice<Product> slice = productRepository.findByQuery(query, pageable);
+        assertThat(slice.getContent()).hasSize(20).allSatisfy(product -> {
+            assertThat(product.getCategory()).isEqualTo("Books");
+            assertThat(product.getPrice()).isBetween(100.0, 500.0);
+            assertThat(product.getInStock()).isTrue();
+        });
+        assertThat(slice.getContent()).extracting(Product::getPrice).isSorted();
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void priceOnlyFilterUsesPriceIndex() {
+        ProductQuerySql querySql = ProductQuerySql.of(
+                new ProductQuery(null, null, null, 50.0, 60.0, null), PageRequest.of(0, 20, Sort.by("price")));
+
+        assertThat(explain(querySql)).containsIgnoringCase("idx_products_price");
+    }
+
+    @Test
+    void sortColumnsComeFromWhitelistOnly() {
+        assertThatThrownBy(() -> ProductQuerySql.of(new ProductQuery(null, null, null, null, null, null),
+                PageRequest.of(0, 20, Sort.by("price; DROP TABLE products"))))
+                .isInstanceOf(InvalidProductQueryException.class);
+        assertThatThrownBy(() -> ProductQuerySql.of(new ProductQuery(null, null, null, 10.0, 1.0, null),
+                PageRequest.of(0, 20)))
+                .isInstanceOf(InvalidProductQueryException.class);
+    }
+
+    @Test
+    void keywordWildcardsMatchLiterally() {
+        jdbcTemplate.getJdbcTemplate().update(
+                "INSERT INTO products (name, price, category, in_stock) VALUES ('할인_50% 쿠폰', 1.0, 'Coupon', true)");
+
+        assertThat(productRepository.findByQuery(keyword("_50%"), PageRequest.of(0, 20)).getContent())
+                .extracting(Product::getName)
+                .containsExactly("할인_50% 쿠폰");
+        assertThat(productRepository.findByQuery(keyword("%"), PageRequest.of(0, 20)).getContent())
+                .extracting(Product::getName)
+                .containsExactly("할인_50% 쿠폰");
+        assertThat(productRepository.findByQuery(keyword("상_"), PageRequest.of(0, 20)).getContent())
+                .isEmpty();
+    }
+
+    private static ProductQuery keyword(String keyword) {
+        return new ProductQuery(null, keyword, null, null, null, null);
+    }
+
+    private String explain(ProductQuerySql querySql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + querySql.sql(), querySql.parameters(), String.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.datajpa.config;
+
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine)
+ * datajpa.cache.regions 의 영역마다 크기/만료 시간을 지정한 캐시를 만들어 Hibernate 에 넘긴다.
+ * Hibernate 쪽 설정(use_second_level_cache, use_query_cache, region.factory_class)은 application.yml 에 있다.
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    /**
+     * 2차 캐시용 JCache CacheManager
+     * 기본 CacheManager 는 클래스로더 단위로 공유되므로, 테스트처럼 컨텍스트가 여럿 떠도
+     * DB 가 다른 컨텍스트끼리 캐시가 섞이지 않게 컨텍스트마다 별도 URI 로 만든다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider()
+                .getCacheManager(URI.create("datajpa-" + UUID.randomUUID()), getClass().getClassLoader());
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+            if (region.getTtl() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                                           SecondLevelCacheProperties properties) {
+        return new SecondLevelCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+                properties.getRegions().keySet());
+    }
+}
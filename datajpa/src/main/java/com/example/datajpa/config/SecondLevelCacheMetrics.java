@@ -0,0 +1,59 @@
+package com.example.datajpa.config;
+
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 2차 캐시 적중률 지표 (/actuator/metrics)
+ *
+ * - datajpa.cache.hit.ratio{cache=entity|query}: 엔티티 캐시 / 쿼리 캐시 전체 적중률
+ * - datajpa.cache.region.hit.ratio{region=...}: 영역별 적중률
+ *
+ * 요청/적중 횟수 자체는 hibernate-micrometer 가 hibernate.second.level.cache.requests,
+ * hibernate.query.cache.requests 로 노출한다. 둘 다 hibernate.generate_statistics=true 가 필요하다.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final Set<String> regions;
+
+    public SecondLevelCacheMetrics(Statistics statistics, Set<String> regions) {
+        this.statistics = statistics;
+        this.regions = regions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "datajpa.cache.hit.ratio", "cache", "entity",
+                s -> ratio(s.getSecondLevelCacheHitCount(), s.getSecondLevelCacheMissCount()));
+        gauge(registry, "datajpa.cache.hit.ratio", "cache", "query",
+                s -> ratio(s.getQueryCacheHitCount(), s.getQueryCacheMissCount()));
+        for (String region : regions) {
+            gauge(registry, "datajpa.cache.region.hit.ratio", "region", region, s -> {
+                CacheRegionStatistics regionStatistics = s.getCacheRegionStatistics(region);
+                return regionStatistics == null ? 0.0
+                        : ratio(regionStatistics.getHitCount(), regionStatistics.getMissCount());
+            });
+        }
+    }
+
+    private void gauge(MeterRegistry registry, String name, String tagKey, String tagValue,
+                       ToDoubleFunction<Statistics> value) {
+        Gauge.builder(name, statistics, value)
+                .tag(tagKey, tagValue)
+                .description("Hibernate 2차 캐시 적중률 (0.0 ~ 1.0)")
+                .register(registry);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.datajpa.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Hibernate 2차 캐시 영역 설정 (datajpa.cache.regions)
+ * 영역 이름은 엔티티의 @Cache(region), 쿼리 힌트의 cacheRegion, Hibernate 기본 영역 이름과 같아야 한다.
+ * 설정에 없는 영역을 쓰면 시작 시 실패한다 (hibernate.javax.cache.missing_cache_strategy=fail).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datajpa.cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /**
+         * 최대 항목 수 (넘으면 오래 안 쓴 항목부터 제거)
+         */
+        private long maxEntries = 10_000;
+
+        /**
+         * 저장 후 만료 시간 (없으면 만료하지 않음, 갱신 타임스탬프 영역은 비워 둔다)
+         */
+        private Duration ttl;
+    }
+}
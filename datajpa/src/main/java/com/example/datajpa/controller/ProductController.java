@@ -1,27 +1,46 @@
 package com.example.datajpa.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.datajpa.dto.BulkUpsertResult;
+import com.example.datajpa.dto.ProductQuery;
+import com.example.datajpa.dto.ProductStats;
+import com.example.datajpa.dto.ProductSummary;
+import com.example.datajpa.dto.SliceResponse;
 import com.example.datajpa.entity.Product;
+import com.example.datajpa.exception.InvalidBulkUploadException;
+import com.example.datajpa.exception.InvalidProductQueryException;
+import com.example.datajpa.service.ProductBulkReader;
 import com.example.datajpa.service.ProductEntityManagerService;
 import com.example.datajpa.service.ProductJpaService;
+import com.example.datajpa.service.ProductStatsService;
 
 /**
  * Product REST API Controller
  * 내용.md 7장 - JPA와 Spring Data JDBC 예제
+ *
+ * 목록 API는 page, size, sort 파라미터를 받고 (기본 20건, id 순)
+ * 엔티티 대신 ProductSummary 프로젝션을 Slice 단위로 반환한다.
+ * 모든 목록 API는 조건 조합 조회(ProductJpaService.query) 하나로 처리된다.
  */
 @RestController
 @RequestMapping("/api/products")
@@ -29,20 +48,35 @@ public class ProductController {
 
     private final ProductJpaService productJpaService;
     private final ProductEntityManagerService productEntityManagerService;
+    private final ProductStatsService productStatsService;
 
     public ProductController(ProductJpaService productJpaService, 
-                           ProductEntityManagerService productEntityManagerService) {
+                           ProductEntityManagerService productEntityManagerService,
+                           ProductStatsService productStatsService) {
         this.productJpaService = productJpaService;
         this.productEntityManagerService = productEntityManagerService;
+        this.productStatsService = productStatsService;
     }
 
     /**
-     * 모든 상품 조회
+     * 모든 상품 조회 (페이지 단위)
      */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productJpaService.findAll();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> getAllProducts(
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(productJpaService.query(ProductQuery.all(), pageable)));
+    }
+
+    /**
+     * 조건 조합 상품 조회
+     * 예) /api/products/query?category=Books&minPrice=10000&maxPrice=50000&inStock=true&sort=price,desc
+     * 지정한 조건과 정렬이 모두 하나의 SQL 로 실행된다.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<SliceResponse<ProductSummary>> queryProducts(
+            ProductQuery query,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(productJpaService.query(query, pageable)));
     }
 
     /**
@@ -64,6 +98,20 @@ public class ProductController {
         return ResponseEntity.ok(savedProduct);
     }
 
+    /**
+     * 상품 대량 업서트 (CSV 또는 NDJSON 본문)
+     * id 가 없는 행은 추가, 있는 행은 갱신한다. 결과에 처리 건수와 초당 처리 행 수를 담는다.
+     */
+    @PostMapping(value = "/bulk", consumes = {ProductBulkReader.TEXT_CSV, ProductBulkReader.APPLICATION_NDJSON})
+    public ResponseEntity<BulkUpsertResult> bulkUpsertProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        ProductBulkReader.Format format = ProductBulkReader.Format.fromContentType(contentType);
+        try (ProductBulkReader reader = new ProductBulkReader(body, format)) {
+            return ResponseEntity.ok(productEntityManagerService.bulkUpsert(reader));
+        }
+    }
+
     /**
      * 상품 업데이트
      */
@@ -95,82 +143,82 @@ public class ProductController {
      * 이름으로 상품 검색
      */
     @GetMapping("/search/name/{name}")
-    public ResponseEntity<List<Product>> getProductsByName(@PathVariable String name) {
-        List<Product> products = productJpaService.findByName(name);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> getProductsByName(
+            @PathVariable String name,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(productJpaService.query(ProductQuery.byName(name), pageable)));
     }
 
     /**
      * 키워드로 상품 검색
      */
     @GetMapping("/search")
-    public ResponseEntity<List<Product>> searchProducts(@RequestParam String keyword) {
-        List<Product> products = productJpaService.searchByName(keyword);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> searchProducts(
+            @RequestParam String keyword,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(productJpaService.query(ProductQuery.byKeyword(keyword), pageable)));
     }
 
     /**
      * 카테고리별 상품 조회
      */
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable String category) {
-        List<Product> products = productJpaService.findByCategory(category);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> getProductsByCategory(
+            @PathVariable String category,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(productJpaService.query(ProductQuery.byCategory(category), pageable)));
     }
 
     /**
      * 가격 범위로 상품 조회
      */
     @GetMapping("/price-range")
-    public ResponseEntity<List<Product>> getProductsByPriceRange(
+    public ResponseEntity<SliceResponse<ProductSummary>> getProductsByPriceRange(
             @RequestParam Double minPrice, 
-            @RequestParam Double maxPrice) {
-        List<Product> products = productJpaService.findByPriceRange(minPrice, maxPrice);
-        return ResponseEntity.ok(products);
+            @RequestParam Double maxPrice,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(
+                productJpaService.query(ProductQuery.byPriceRange(minPrice, maxPrice), pageable)));
     }
 
     /**
      * 가격 이하의 상품 조회
      */
     @GetMapping("/price-max/{maxPrice}")
-    public ResponseEntity<List<Product>> getProductsByMaxPrice(@PathVariable Double maxPrice) {
-        List<Product> products = productJpaService.findByPriceLessThanEqual(maxPrice);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> getProductsByMaxPrice(
+            @PathVariable Double maxPrice,
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(
+                productJpaService.query(ProductQuery.byPriceRange(null, maxPrice), pageable)));
     }
 
     /**
      * 재고 있는 상품 조회
      */
     @GetMapping("/in-stock")
-    public ResponseEntity<List<Product>> getInStockProducts() {
-        List<Product> products = productJpaService.findInStockProducts();
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> getInStockProducts(
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(productJpaService.query(ProductQuery.inStockOnly(), pageable)));
     }
 
     /**
      * 카테고리별 가격순 정렬 조회
      */
     @GetMapping("/category/{category}/ordered")
-    public ResponseEntity<List<Product>> getProductsByCategoryOrdered(@PathVariable String category) {
-        List<Product> products = productJpaService.findByCategoryOrderByPrice(category);
-        return ResponseEntity.ok(products);
+    public ResponseEntity<SliceResponse<ProductSummary>> getProductsByCategoryOrdered(
+            @PathVariable String category,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(SliceResponse.of(
+                productJpaService.findSummariesByCategoryOrderByPrice(category, pageable)));
     }
 
     /**
-     * 통계 정보 조회
+     * 통계 정보 조회 (전체 + 카테고리별)
+     * 캐시된 카테고리별 집계를 합쳐서 반환하므로 상품 수와 무관하게 카테고리 수만큼만 계산한다.
      */
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getProductStats() {
-        long totalCount = productJpaService.count();
-        long expensiveCount = productJpaService.countByPriceGreaterThan(1000.0);
-        
-        Map<String, Object> stats = Map.of(
-            "totalCount", totalCount,
-            "expensiveProductsCount", expensiveCount,
-            "averageExpensiveRatio", totalCount > 0 ? (double) expensiveCount / totalCount : 0.0
-        );
-        
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<ProductStats> getProductStats() {
+        return ResponseEntity.ok(productStatsService.getStats());
     }
 
     /**
@@ -190,4 +238,12 @@ public class ProductController {
         productJpaService.jpaRepositoryCRUDExample();
         return ResponseEntity.ok("Spring Data JPA CRUD 예제가 콘솔에 실행되었습니다.");
     }
-} 
\ No newline at end of file
+
+    /**
+     * 잘못된 조회 조건 (정렬 속성, 가격 범위), 대량 업서트 형식 오류
+     */
+    @ExceptionHandler({InvalidProductQueryException.class, InvalidBulkUploadException.class})
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(RuntimeException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
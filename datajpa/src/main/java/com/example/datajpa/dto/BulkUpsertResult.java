@@ -0,0 +1,17 @@
+package com.example.datajpa.dto;
+
+import java.util.List;
+
+/**
+ * 대량 업서트 결과
+ *
+ * @param inserted 추가된 행 수
+ * @param updated 갱신된 행 수
+ * @param rejected 형식 오류, 필수 값 누락, 없는 ID 로 건너뛴 행 수
+ * @param elapsedMillis 처리 시간 (밀리초)
+ * @param rowsPerSecond 초당 처리 행 수 (추가 + 갱신)
+ * @param errors 건너뛴 행의 사유 (앞쪽 일부만)
+ */
+public record BulkUpsertResult(long inserted, long updated, long rejected,
+                               long elapsedMillis, long rowsPerSecond, List<String> errors) {
+}
@@ -0,0 +1,15 @@
+package com.example.datajpa.dto;
+
+/**
+ * 카테고리별 상품 통계
+ *
+ * @param category 카테고리 (없으면 null)
+ * @param count 상품 수
+ * @param minPrice 최저가
+ * @param maxPrice 최고가
+ * @param avgPrice 평균가
+ * @param inStockRatio 재고 있는 상품 비율 (0.0 ~ 1.0)
+ */
+public record CategoryStats(String category, long count, double minPrice, double maxPrice,
+                            double avgPrice, double inStockRatio) {
+}
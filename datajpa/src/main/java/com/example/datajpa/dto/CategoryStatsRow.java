@@ -0,0 +1,17 @@
+package com.example.datajpa.dto;
+
+/**
+ * 카테고리별 집계 원본 값 (GROUP BY 한 번으로 조회)
+ * 평균 대신 합계를 받아 두면 상품 추가/삭제 때 캐시를 증분으로 갱신할 수 있다.
+ *
+ * @param category 카테고리 (없으면 null)
+ * @param count 상품 수
+ * @param minPrice 최저가
+ * @param maxPrice 최고가
+ * @param sumPrice 가격 합계
+ * @param inStockCount 재고 있는 상품 수
+ * @param expensiveCount 고가 상품 수 (ProductStatsService.EXPENSIVE_PRICE 초과)
+ */
+public record CategoryStatsRow(String category, Long count, Double minPrice, Double maxPrice,
+                               Double sumPrice, Long inStockCount, Long expensiveCount) {
+}
@@ -0,0 +1,52 @@
+package com.example.datajpa.dto;
+
+import com.example.datajpa.entity.Product;
+
+/**
+ * 대량 업서트 입력 한 행 (CSV 한 줄 또는 NDJSON 한 줄)
+ * id 가 없으면 새 상품으로 추가하고, 있으면 해당 상품을 갱신한다.
+ */
+public record ProductBulkRow(Long id, String name, Double price, String description,
+                             String category, Boolean inStock) {
+
+    /**
+     * 필수 값 검사
+     * @return 문제가 없으면 null, 있으면 사유
+     */
+    public String validate() {
+        if (name == null || name.isBlank()) {
+            return "name 이 비어 있습니다";
+        }
+        if (price == null) {
+            return "price 가 비어 있습니다";
+        }
+        if (price < 0) {
+            return "price 는 0 이상이어야 합니다: " + price;
+        }
+        return null;
+    }
+
+    /**
+     * 새 상품 엔티티 생성
+     */
+    public Product toProduct() {
+        Product product = new Product(name, price, description, category);
+        if (inStock != null) {
+            product.setInStock(inStock);
+        }
+        return product;
+    }
+
+    /**
+     * 기존 상품에 값 반영 (변경 감지로 UPDATE)
+     */
+    public void applyTo(Product product) {
+        product.setName(name);
+        product.setPrice(price);
+        product.setDescription(description);
+        product.setCategory(category);
+        if (inStock != null) {
+            product.setInStock(inStock);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.datajpa.dto;
+
+/**
+ * 상품 조회 조건
+ * null 인 조건은 적용하지 않으며, 지정된 조건은 모두 AND 로 묶여 하나의 SQL 로 실행된다.
+ *
+ * @param name 상품명 (정확히 일치)
+ * @param keyword 상품명 포함 검색어 (대소문자 무시)
+ * @param category 카테고리
+ * @param minPrice 최소 가격 (포함)
+ * @param maxPrice 최대 가격 (포함)
+ * @param inStock 재고 여부
+ */
+public record ProductQuery(String name, String keyword, String category,
+                           Double minPrice, Double maxPrice, Boolean inStock) {
+
+    public static ProductQuery all() {
+        return new ProductQuery(null, null, null, null, null, null);
+    }
+
+    public static ProductQuery byName(String name) {
+        return new ProductQuery(name, null, null, null, null, null);
+    }
+
+    public static ProductQuery byKeyword(String keyword) {
+        return new ProductQuery(null, keyword, null, null, null, null);
+    }
+
+    public static ProductQuery byCategory(String category) {
+        return new ProductQuery(null, null, category, null, null, null);
+    }
+
+    public static ProductQuery byPriceRange(Double minPrice, Double maxPrice) {
+        return new ProductQuery(null, null, null, minPrice, maxPrice, null);
+    }
+
+    public static ProductQuery inStockOnly() {
+        return new ProductQuery(null, null, null, null, null, true);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.datajpa.dto;
+
+import java.util.List;
+
+/**
+ * 상품 통계 (GET /api/products/stats)
+ *
+ * @param totalCount 전체 상품 수
+ * @param expensiveProductsCount 고가 상품 수
+ * @param averageExpensiveRatio 고가 상품 비율
+ * @param categories 카테고리별 통계 (카테고리 이름 순, 미분류는 마지막)
+ */
+public record ProductStats(long totalCount, long expensiveProductsCount, double averageExpensiveRatio,
+                           List<CategoryStats> categories) {
+}
@@ -0,0 +1,8 @@
+package com.example.datajpa.dto;
+
+/**
+ * 상품 목록 조회용 읽기 전용 프로젝션
+ * JPQL 생성자 표현식으로 바로 만들어지므로 엔티티가 영속성 컨텍스트에 올라가지 않는다.
+ */
+public record ProductSummary(Long id, String name, Double price, String category, Boolean inStock) {
+}
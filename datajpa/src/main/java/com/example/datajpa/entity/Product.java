@@ -1,11 +1,20 @@
 package com.example.datajpa.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,15 +25,23 @@ import lombok.ToString;
  * 내용.md 7장 - JPA와 Spring Data JDBC 예제
  */
 @Entity
-@Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_category_price", columnList = "category, price"),
+    @Index(name = "idx_products_price", columnList = "price")
+})
+@EntityListeners(ProductStatsListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString
 public class Product {
 
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 pooled 시퀀스 사용 (50개씩 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -42,6 +59,31 @@ public class Product {
     @Column(name = "in_stock")
     private Boolean inStock = true;
 
+    // 통계 증분 갱신용: 마지막으로 DB 와 맞춘 값 (ProductStatsListener 에서만 사용, 컬럼 아님)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    boolean statsTracked;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    String statsCategory;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    Double statsPrice;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    Boolean statsInStock;
+
     // 생성자
     public Product(String name, Double price) {
         this.name = name;
@@ -54,4 +96,11 @@ public class Product {
         this.description = description;
         this.category = category;
     }
-} 
\ No newline at end of file
+
+    void rememberStatsState() {
+        this.statsTracked = true;
+        this.statsCategory = category;
+        this.statsPrice = price;
+        this.statsInStock = inStock;
+    }
+}
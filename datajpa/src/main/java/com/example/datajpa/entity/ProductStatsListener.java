@@ -0,0 +1,65 @@
+package com.example.datajpa.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.datajpa.service.ProductStatsService;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Product 변경을 통계 캐시(ProductStatsService)에 전달하는 엔티티 리스너
+ * Spring Boot 가 Hibernate 에 SpringBeanContainer 를 등록하므로 의존성 주입을 받는다.
+ *
+ * 변경/삭제 전 값은 로딩·저장 시점에 Product 에 남겨 둔 스냅샷(stats*)을 사용한다.
+ * EntityManagerFactory 생성 중에 만들어지므로 서비스는 ObjectProvider 로 늦게 꺼낸다.
+ */
+public class ProductStatsListener {
+
+    @Autowired
+    private ObjectProvider<ProductStatsService> productStatsService;
+
+    @PostLoad
+    void onLoad(Product product) {
+        product.rememberStatsState();
+    }
+
+    @PostPersist
+    void onPersist(Product product) {
+        ProductStatsService stats = statsService();
+        if (stats != null) {
+            stats.recordAddition(product.getCategory(), product.getPrice(), product.getInStock());
+        }
+        product.rememberStatsState();
+    }
+
+    @PostUpdate
+    void onUpdate(Product product) {
+        ProductStatsService stats = statsService();
+        if (stats != null) {
+            if (product.statsTracked) {
+                stats.recordRemoval(product.statsCategory, product.statsPrice, product.statsInStock);
+                stats.recordAddition(product.getCategory(), product.getPrice(), product.getInStock());
+            } else {
+                // 이전 값을 모르면 증분 반영이 불가능하므로 다시 적재
+                stats.invalidate();
+            }
+        }
+        product.rememberStatsState();
+    }
+
+    @PostRemove
+    void onRemove(Product product) {
+        ProductStatsService stats = statsService();
+        if (stats != null && product.statsTracked) {
+            stats.recordRemoval(product.statsCategory, product.statsPrice, product.statsInStock);
+        }
+    }
+
+    private ProductStatsService statsService() {
+        return productStatsService == null ? null : productStatsService.getIfAvailable();
+    }
+}
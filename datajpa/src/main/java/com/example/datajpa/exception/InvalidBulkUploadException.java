@@ -0,0 +1,15 @@
+package com.example.datajpa.exception;
+
+/**
+ * 대량 업서트 입력 형식 오류 예외
+ * 지원하지 않는 형식, CSV 헤더 오류처럼 업로드 전체를 처리할 수 없는 경우와
+ * 한 줄의 형식 오류(해당 줄만 건너뛴다)에 함께 쓴다.
+ */
+public class InvalidBulkUploadException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidBulkUploadException(String message) {
+        super(message);
+    }
+}
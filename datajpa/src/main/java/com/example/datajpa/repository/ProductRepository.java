@@ -1,20 +1,32 @@
 package com.example.datajpa.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.datajpa.dto.CategoryStatsRow;
 import com.example.datajpa.entity.Product;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * ProductRepository 인터페이스
  * 내용.md 7장 - JPA와 Spring Data JDBC 예제
+ *
+ * 목록 API 의 조건 조합 조회는 ProductRepositoryCustom.findSummaries(Specification, Pageable) 를 사용한다.
+ * findById 는 Product 엔티티 캐시(product 영역)를, findByCategory 는 쿼리 캐시(product-queries 영역)를 사용한다.
+ * 통계 API 는 aggregate* 집계 쿼리로 카테고리별 값을 한 번에 받아 ProductStatsService 에 캐시한다.
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
     // 이름으로 상품 조회 (자동으로 쿼리 생성)
     List<Product> findByName(String name);
@@ -25,7 +37,11 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 가격 범위로 상품 조회
     List<Product> findByPriceBetween(Double minPrice, Double maxPrice);
 
-    // 카테고리별 상품 조회
+    // 카테고리별 상품 조회 (쿼리 캐시)
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = "product-queries")
+    })
     List<Product> findByCategory(String category);
 
     // 재고 있는 상품 조회
@@ -50,4 +66,26 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 카테고리별 상품 존재 여부
     boolean existsByCategory(String category);
-} 
\ No newline at end of file
+
+    // 카테고리별 집계 (통계 캐시 전체 적재용, 고가 기준은 ProductStatsService.EXPENSIVE_PRICE 를 넘긴다)
+    @Query("SELECT new com.example.datajpa.dto.CategoryStatsRow(p.category, COUNT(p), MIN(p.price), MAX(p.price), "
+            + "SUM(p.price), SUM(CASE WHEN p.inStock = true THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN p.price > :expensivePrice THEN 1L ELSE 0L END)) "
+            + "FROM Product p GROUP BY p.category")
+    List<CategoryStatsRow> aggregateByCategory(@Param("expensivePrice") double expensivePrice);
+
+    // 한 카테고리만 다시 집계 (최저/최고가 재계산용, (category, price) 인덱스 범위만 읽는다)
+    @Query("SELECT new com.example.datajpa.dto.CategoryStatsRow(p.category, COUNT(p), MIN(p.price), MAX(p.price), "
+            + "SUM(p.price), SUM(CASE WHEN p.inStock = true THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN p.price > :expensivePrice THEN 1L ELSE 0L END)) "
+            + "FROM Product p WHERE p.category = :category GROUP BY p.category")
+    Optional<CategoryStatsRow> aggregateCategory(@Param("category") String category,
+                                                @Param("expensivePrice") double expensivePrice);
+
+    // 카테고리가 없는 상품만 다시 집계
+    @Query("SELECT new com.example.datajpa.dto.CategoryStatsRow(p.category, COUNT(p), MIN(p.price), MAX(p.price), "
+            + "SUM(p.price), SUM(CASE WHEN p.inStock = true THEN 1L ELSE 0L END), "
+            + "SUM(CASE WHEN p.price > :expensivePrice THEN 1L ELSE 0L END)) "
+            + "FROM Product p WHERE p.category IS NULL GROUP BY p.category")
+    Optional<CategoryStatsRow> aggregateUncategorized(@Param("expensivePrice") double expensivePrice);
+}
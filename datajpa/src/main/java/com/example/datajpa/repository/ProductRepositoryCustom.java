@@ -0,0 +1,22 @@
+package com.example.datajpa.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.datajpa.dto.ProductSummary;
+import com.example.datajpa.entity.Product;
+
+/**
+ * ProductRepository 사용자 정의 조회
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 조건과 정렬을 하나의 SQL 로 실행해 DTO 프로젝션을 Slice 단위로 조회
+     * @param spec 조회 조건
+     * @param pageable 페이지와 정렬
+     * @return 상품 요약 Slice
+     */
+    Slice<ProductSummary> findSummaries(Specification<Product> spec, Pageable pageable);
+}
@@ -0,0 +1,63 @@
+package com.example.datajpa.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.example.datajpa.dto.ProductSummary;
+import com.example.datajpa.entity.Product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * ProductRepositoryCustom 구현 (Criteria API)
+ * Specification 의 조건, Pageable 의 정렬과 OFFSET/LIMIT 을 모두 SQL 에 넣고,
+ * 다음 페이지 확인을 위해 size + 1 건만 조회한다.
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<ProductSummary> findSummaries(Specification<Product> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = cb.createQuery(ProductSummary.class);
+        Root<Product> product = query.from(Product.class);
+
+        query.select(cb.construct(ProductSummary.class,
+                product.get("id"), product.get("name"), product.get("price"),
+                product.get("category"), product.get("inStock")));
+
+        Predicate predicate = spec != null ? spec.toPredicate(product, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), product, cb));
+        }
+
+        TypedQuery<ProductSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList());
+        }
+
+        typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        List<ProductSummary> rows = typedQuery.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<ProductSummary> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.datajpa.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.datajpa.dto.ProductQuery;
+import com.example.datajpa.entity.Product;
+
+/**
+ * Product 조회 조건 (Specification)
+ * 조건을 조합해 WHERE 절 하나로 만든다. 인덱스(category, price)를 탈 수 있도록 등호 조건을 먼저 둔다.
+ */
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * 조회 조건에서 지정된 항목만 AND 로 조합
+     */
+    public static Specification<Product> matching(ProductQuery query) {
+        List<Specification<Product>> specs = new ArrayList<>();
+        if (query.category() != null) {
+            specs.add(categoryEquals(query.category()));
+        }
+        if (query.name() != null) {
+            specs.add(nameEquals(query.name()));
+        }
+        if (query.inStock() != null) {
+            specs.add(inStock(query.inStock()));
+        }
+        if (query.minPrice() != null) {
+            specs.add(priceGreaterThanOrEqual(query.minPrice()));
+        }
+        if (query.maxPrice() != null) {
+            specs.add(priceLessThanOrEqual(query.maxPrice()));
+        }
+        if (query.keyword() != null && !query.keyword().isBlank()) {
+            specs.add(nameContainsIgnoreCase(query.keyword()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Product> categoryEquals(String category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<Product> nameEquals(String name) {
+        return (root, query, cb) -> cb.equal(root.get("name"), name);
+    }
+
+    public static Specification<Product> inStock(boolean inStock) {
+        return (root, query, cb) -> cb.equal(root.get("inStock"), inStock);
+    }
+
+    public static Specification<Product> priceGreaterThanOrEqual(Double price) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), price);
+    }
+
+    public static Specification<Product> priceLessThanOrEqual(Double price) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), price);
+    }
+
+    /**
+     * 상품명 포함 검색 (대소문자 무시, 검색어의 %, _ 는 문자 그대로 찾는다)
+     */
+    public static Specification<Product> nameContainsIgnoreCase(String keyword) {
+        String pattern = "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
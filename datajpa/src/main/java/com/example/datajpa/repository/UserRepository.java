@@ -1,26 +1,42 @@
 package com.example.datajpa.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.datajpa.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * UserRepository 인터페이스
  * 내용.md 7장 - JPA와 Spring Data JDBC 예제
+ *
+ * findById 는 User 엔티티 캐시(user 영역)를, 사용자명/이메일 조회는 쿼리 캐시(user-queries 영역)를 사용한다.
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    // 사용자명으로 조회
+    // 사용자명으로 조회 (쿼리 캐시)
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = "user-queries")
+    })
     Optional<User> findByUsername(String username);
 
-    // 이메일로 조회
+    // 이메일로 조회 (쿼리 캐시)
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = "user-queries")
+    })
     Optional<User> findByEmail(String email);
 
     // 활성 사용자 조회
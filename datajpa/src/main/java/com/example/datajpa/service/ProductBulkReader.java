@@ -0,0 +1,204 @@
+package com.example.datajpa.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.datajpa.dto.ProductBulkRow;
+import com.example.datajpa.exception.InvalidBulkUploadException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 대량 업서트 입력을 한 줄씩 읽는 리더
+ * 요청 본문 전체를 메모리에 올리지 않고 스트림에서 바로 읽는다.
+ *
+ * - CSV: 첫 줄은 헤더 (id, name, price, description, category, inStock), 큰따옴표로 감싼 값 지원 (줄바꿈 포함 값은 미지원)
+ * - NDJSON: 한 줄에 JSON 객체 하나
+ */
+public class ProductBulkReader implements Closeable {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * 입력 형식
+     */
+    public enum Format {
+        CSV, NDJSON;
+
+        /**
+         * Content-Type 으로 형식 결정
+         * @throws InvalidBulkUploadException 지원하지 않는 형식
+         */
+        public static Format fromContentType(String contentType) {
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith(TEXT_CSV)) {
+                return CSV;
+            }
+            if (type.startsWith(APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+            throw new InvalidBulkUploadException("지원하지 않는 형식입니다: " + contentType
+                    + " (" + TEXT_CSV + " 또는 " + APPLICATION_NDJSON + ")");
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final Map<String, Integer> csvColumns;
+    private long lineNumber;
+
+    /**
+     * @throws InvalidBulkUploadException CSV 헤더가 없거나 name, price 컬럼이 없는 경우
+     */
+    public ProductBulkReader(InputStream in, Format format) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.csvColumns = format == Format.CSV ? parseHeader(readHeaderLine()) : Map.of();
+    }
+
+    /**
+     * 다음 행 읽기 (빈 줄은 건너뜀)
+     * @return 다음 행, 입력이 끝나면 null
+     * @throws InvalidBulkUploadException 현재 줄의 형식이 잘못된 경우 (다음 호출은 다음 줄부터 읽는다)
+     */
+    public ProductBulkRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            return format == Format.NDJSON ? parseJson(line) : parseCsv(line);
+        }
+        return null;
+    }
+
+    /**
+     * 마지막으로 읽은 줄 번호 (1부터)
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readHeaderLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        throw new InvalidBulkUploadException("CSV 헤더가 없습니다");
+    }
+
+    private static ProductBulkRow parseJson(String line) {
+        try {
+            return OBJECT_MAPPER.readValue(line, ProductBulkRow.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidBulkUploadException("JSON 형식 오류: " + e.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "");
+            columns.put(name, i);
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("price")) {
+            throw new InvalidBulkUploadException("CSV 헤더에 name, price 컬럼이 필요합니다: " + line);
+        }
+        return columns;
+    }
+
+    private ProductBulkRow parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        try {
+            String id = value(values, "id");
+            String price = value(values, "price");
+            String inStock = value(values, "instock");
+            return new ProductBulkRow(
+                    id != null ? Long.valueOf(id) : null,
+                    value(values, "name"),
+                    price != null ? Double.valueOf(price) : null,
+                    value(values, "description"),
+                    value(values, "category"),
+                    inStock != null ? parseBoolean(inStock) : null);
+        } catch (NumberFormatException e) {
+            throw new InvalidBulkUploadException("숫자 형식 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * true/false 만 허용 (Boolean.valueOf 는 yes, 1 같은 값을 조용히 false 로 바꾼다)
+     */
+    private static Boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new InvalidBulkUploadException("inStock 은 true 또는 false 여야 합니다: " + value);
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidBulkUploadException("닫히지 않은 따옴표가 있습니다");
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
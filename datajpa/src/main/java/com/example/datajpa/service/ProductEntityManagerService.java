@@ -1,14 +1,31 @@
 package com.example.datajpa.service;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.datajpa.dto.BulkUpsertResult;
+import com.example.datajpa.dto.ProductBulkRow;
 import com.example.datajpa.entity.Product;
+import com.example.datajpa.exception.InvalidBulkUploadException;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.TypedQuery;
 
 /**
@@ -19,9 +36,22 @@ import jakarta.persistence.TypedQuery;
 @Transactional
 public class ProductEntityManagerService {
 
+    // 대량 업서트 결과에 담는 오류 사유 최대 개수
+    private static final int MAX_REPORTED_ERRORS = 100;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    // flush/clear 주기 (hibernate.jdbc.batch_size 의 배수로 맞춘다), 대량 업서트는 이 단위로 커밋한다
+    @Value("${datajpa.bulk.flush-size:1000}")
+    private int bulkFlushSize;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductEntityManagerService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     /**
      * 상품 저장
      */
@@ -124,6 +154,156 @@ public class ProductEntityManagerService {
         return query.getSingleResult();
     }
 
+    /**
+     * 상품 대량 업서트
+     * id 가 없는 행은 추가하고, 있는 행은 기존 상품을 갱신한다.
+     * flushSize 행마다 갱신 대상을 IN 쿼리 한 번으로 읽고, 그 청크를 한 트랜잭션으로 flush/커밋해서
+     * INSERT/UPDATE 가 JDBC 배치로 나가고 영속성 컨텍스트와 언두 로그가 업로드 크기만큼 커지지 않게 한다.
+     * 형식 오류, 필수 값 누락, 없는 ID 인 행은 건너뛰고 결과에 사유를 남긴다.
+     * DB 오류로 청크 하나가 롤백되면 그 청크의 행만 실패로 남기고, 이미 커밋된 청크와 다음 청크는 유지한다.
+     * 청크 트랜잭션의 세션은 2차 캐시를 읽거나 채우지 않는다 (CacheMode.IGNORE).
+     * @param reader 입력 리더 (CSV/NDJSON)
+     * @return 처리 결과 (초당 처리 행 수 포함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkUpsertResult bulkUpsert(ProductBulkReader reader) throws IOException {
+        long start = System.nanoTime();
+        BulkCounter counter = new BulkCounter();
+        List<PendingRow> chunk = new ArrayList<>(bulkFlushSize);
+
+        while (true) {
+            ProductBulkRow row;
+            try {
+                row = reader.next();
+            } catch (InvalidBulkUploadException e) {
+                counter.reject(reader.getLineNumber(), e.getMessage());
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+
+            String problem = row.validate();
+            if (problem != null) {
+                counter.reject(reader.getLineNumber(), problem);
+                continue;
+            }
+
+            chunk.add(new PendingRow(reader.getLineNumber(), row));
+            if (chunk.size() >= bulkFlushSize) {
+                writeChunk(chunk, counter);
+            }
+        }
+        writeChunk(chunk, counter);
+
+        long elapsedNanos = System.nanoTime() - start;
+        long written = counter.inserted + counter.updated;
+        long rowsPerSecond = elapsedNanos > 0 ? written * 1_000_000_000L / elapsedNanos : written;
+        return new BulkUpsertResult(counter.inserted, counter.updated, counter.rejected,
+                elapsedNanos / 1_000_000, rowsPerSecond, counter.errors);
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장하고, 커밋된 경우에만 결과에 더한다
+     */
+    private void writeChunk(List<PendingRow> chunk, BulkCounter counter) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            BulkCounter written = transactionTemplate.execute(status -> writeChunkInTransaction(chunk));
+            counter.add(written);
+        } catch (DataAccessException | PersistenceException e) {
+            counter.rejectChunk(chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), chunk.size(),
+                    "청크 저장 실패: " + rootMessage(e));
+        }
+        chunk.clear();
+    }
+
+    private BulkCounter writeChunkInTransaction(List<PendingRow> chunk) {
+        // 대량 행을 2차 캐시에 넣지 않는다 (갱신된 행의 캐시 무효화는 그대로 일어난다)
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        BulkCounter counter = new BulkCounter();
+
+        List<Long> ids = chunk.stream()
+                .map(pending -> pending.row().id())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, Product> existing = ids.isEmpty() ? Map.of() : entityManager
+                .createQuery("SELECT p FROM Product p WHERE p.id IN :ids", Product.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        for (PendingRow pending : chunk) {
+            ProductBulkRow row = pending.row();
+            if (row.id() == null) {
+                entityManager.persist(row.toProduct());
+                counter.inserted++;
+            } else {
+                Product product = existing.get(row.id());
+                if (product == null) {
+                    counter.reject(pending.line(), "존재하지 않는 상품 ID: " + row.id());
+                    continue;
+                }
+                row.applyTo(product);
+                counter.updated++;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return counter;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /**
+     * 대량 업서트 대기 행 (입력 줄 번호 포함)
+     */
+    private record PendingRow(long line, ProductBulkRow row) {
+    }
+
+    /**
+     * 대량 업서트 집계
+     */
+    private static class BulkCounter {
+        long inserted;
+        long updated;
+        long rejected;
+        final List<String> errors = new ArrayList<>();
+
+        void reject(long line, String reason) {
+            rejected++;
+            addError(line + "행: " + reason);
+        }
+
+        void rejectChunk(long firstLine, long lastLine, int rows, String reason) {
+            rejected += rows;
+            addError(firstLine + "~" + lastLine + "행: " + reason);
+        }
+
+        void add(BulkCounter chunk) {
+            inserted += chunk.inserted;
+            updated += chunk.updated;
+            rejected += chunk.rejected;
+            chunk.errors.forEach(this::addError);
+        }
+
+        private void addError(String error) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
     /**
      * EntityManager CRUD 예제 실행
      */
@@ -2,12 +2,21 @@ package com.example.datajpa.service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.datajpa.dto.ProductQuery;
+import com.example.datajpa.dto.ProductSummary;
 import com.example.datajpa.entity.Product;
+import com.example.datajpa.exception.InvalidProductQueryException;
 import com.example.datajpa.repository.ProductRepository;
+import com.example.datajpa.repository.ProductSpecifications;
 
 /**
  * Spring Data JPA를 사용한 Product 서비스
@@ -17,6 +26,9 @@ import com.example.datajpa.repository.ProductRepository;
 @Transactional
 public class ProductJpaService {
 
+    // 목록 API 에서 허용하는 정렬 속성
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "price", "category");
+
     private final ProductRepository productRepository;
 
     public ProductJpaService(ProductRepository productRepository) {
@@ -126,6 +138,36 @@ public class ProductJpaService {
         return productRepository.findProductsInRange(min, max);
     }
 
+    // ===== 목록 API용 조건 조회 (읽기 전용 DTO 프로젝션) =====
+
+    /**
+     * 조건 조합 상품 조회
+     * 모든 조건과 정렬을 하나의 SQL 로 실행한다.
+     * @throws InvalidProductQueryException 정렬할 수 없는 속성이거나 가격 범위가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductSummary> query(ProductQuery query, Pageable pageable) {
+        if (query.minPrice() != null && query.maxPrice() != null && query.minPrice() > query.maxPrice()) {
+            throw new InvalidProductQueryException("최소 가격이 최대 가격보다 큽니다: " + query.minPrice() + " > " + query.maxPrice());
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidProductQueryException("정렬할 수 없는 속성입니다: " + order.getProperty()
+                        + " (가능: " + SORTABLE_PROPERTIES + ")");
+            }
+        }
+        return productRepository.findSummaries(ProductSpecifications.matching(query), pageable);
+    }
+
+    /**
+     * 카테고리별 가격순 페이지 조회 (요청의 정렬 조건은 무시하고 가격 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductSummary> findSummariesByCategoryOrderByPrice(String category, Pageable pageable) {
+        Pageable byPrice = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("price"));
+        return query(ProductQuery.byCategory(category), byPrice);
+    }
+
     /**
      * 상품 업데이트
      */
@@ -0,0 +1,286 @@
+package com.example.datajpa.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.datajpa.dto.CategoryStats;
+import com.example.datajpa.dto.CategoryStatsRow;
+import com.example.datajpa.dto.ProductStats;
+import com.example.datajpa.repository.ProductRepository;
+
+/**
+ * 상품 통계 서비스 (GET /api/products/stats)
+ *
+ * 카테고리별 집계(상품 수, 가격 합계/최저/최고, 재고 있는 상품 수, 고가 상품 수)를
+ * GROUP BY 쿼리 한 번으로 적재해 캐시하고, 이후에는 ProductStatsListener 가 전달하는
+ * 상품 추가/변경/삭제를 커밋 시점에 캐시에 더하고 뺀다. 통계 조회 비용은 상품 수가 아니라 카테고리 수에 비례한다.
+ *
+ * - 수, 합계, 재고/고가 상품 수는 증분으로 정확히 유지된다
+ * - 최저가/최고가였던 값이 빠지면 그 카테고리만 다음 조회 때 다시 집계한다
+ * - 롤백된 트랜잭션의 변경은 반영하지 않는다
+ * - 커밋마다 순번을 매겨, 재적재 쿼리가 이미 읽은 트랜잭션의 변화량은 다시 더하지 않는다
+ * - JDBC 직접 쓰기처럼 JPA 를 거치지 않는 변경은 full-refresh 주기의 전체 재적재나 invalidate() 로 맞춘다
+ */
+@Service
+public class ProductStatsService {
+
+    /**
+     * 고가 상품 기준 가격 (ProductRepository 집계 쿼리에 파라미터로 넘긴다)
+     */
+    public static final double EXPENSIVE_PRICE = 1000.0;
+
+    // 카테고리 이름 순, 미분류(null)는 마지막
+    private static final Comparator<String> CATEGORY_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final ProductRepository productRepository;
+    private final long fullRefreshNanos;
+
+    // 커밋 순번 (afterCommit 에서 받으므로, 재적재 쿼리 전에 받은 순번의 커밋은 그 쿼리 결과에 포함된다)
+    private final AtomicLong commitSequence = new AtomicLong();
+
+    // 카테고리 → 누적 집계 (null 키 = 미분류), this 로 동기화
+    private final Map<String, CategoryAggregate> aggregates = new HashMap<>();
+    private boolean loaded;
+    private long loadedAtNanos;
+    // 마지막 전체 적재 쿼리 직전의 커밋 순번
+    private long loadedSequence;
+
+    public ProductStatsService(ProductRepository productRepository,
+                               @Value("${datajpa.stats.full-refresh-seconds:300}") long fullRefreshSeconds) {
+        this.productRepository = productRepository;
+        this.fullRefreshNanos = TimeUnit.SECONDS.toNanos(fullRefreshSeconds);
+    }
+
+    /**
+     * 전체/카테고리별 상품 통계
+     * 캐시가 비었거나 full-refresh 주기가 지났으면 GROUP BY 한 번으로 다시 적재하고,
+     * 최저/최고가가 무효화된 카테고리만 개별로 다시 집계한다.
+     */
+    public synchronized ProductStats getStats() {
+        if (!loaded || System.nanoTime() - loadedAtNanos > fullRefreshNanos) {
+            reload();
+        }
+
+        long totalCount = 0;
+        long expensiveCount = 0;
+        List<String> categories = new ArrayList<>(aggregates.keySet());
+        categories.sort(CATEGORY_ORDER);
+        List<CategoryStats> categoryStats = new ArrayList<>(categories.size());
+        for (String category : categories) {
+            CategoryAggregate aggregate = aggregates.get(category);
+            if (aggregate.extremesStale) {
+                aggregate = reloadCategory(category);
+                if (aggregate == null) {
+                    continue;
+                }
+            }
+            totalCount += aggregate.count;
+            expensiveCount += aggregate.expensiveCount;
+            categoryStats.add(aggregate.toStats(category));
+        }
+
+        return new ProductStats(totalCount, expensiveCount,
+                totalCount > 0 ? (double) expensiveCount / totalCount : 0.0, categoryStats);
+    }
+
+    /**
+     * 캐시 무효화 (다음 조회 때 전체 재적재)
+     * JPA 를 거치지 않고 products 테이블을 바꾼 뒤 호출한다.
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+        aggregates.clear();
+    }
+
+    /**
+     * 상품 추가 반영 (ProductStatsListener 에서 호출)
+     */
+    public void recordAddition(String category, Double price, Boolean inStock) {
+        record(category, price, inStock, 1);
+    }
+
+    /**
+     * 상품 제거 반영 (ProductStatsListener 에서 호출, 변경은 이전 값 제거 + 새 값 추가)
+     */
+    public void recordRemoval(String category, Double price, Boolean inStock) {
+        record(category, price, inStock, -1);
+    }
+
+    private void record(String category, Double price, Boolean inStock, int sign) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<String, CategoryDelta> single = new HashMap<>();
+            single.computeIfAbsent(category, c -> new CategoryDelta()).add(price, inStock, sign);
+            apply(single, commitSequence.incrementAndGet());
+            return;
+        }
+
+        // 트랜잭션마다 카테고리별 변화량만 모아 두었다가 커밋 후 한 번에 반영
+        @SuppressWarnings("unchecked")
+        Map<String, CategoryDelta> pending = (Map<String, CategoryDelta>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<String, CategoryDelta> deltas = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 모니터를 기다리기 전에 순번을 받아, 기다리는 동안 재적재한 쿼리가 이 커밋을 읽었는지 구분한다
+                    apply(deltas, commitSequence.incrementAndGet());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ProductStatsService.this);
+                }
+            });
+            pending = deltas;
+        }
+        pending.computeIfAbsent(category, c -> new CategoryDelta()).add(price, inStock, sign);
+    }
+
+    private synchronized void apply(Map<String, CategoryDelta> deltas, long sequence) {
+        if (!loaded) {
+            // 아직 적재 전이면 다음 조회 때 DB 에서 읽으므로 버린다
+            return;
+        }
+        deltas.forEach((category, delta) -> {
+            CategoryAggregate aggregate = aggregates.get(category);
+            // 이 커밋 이후에 시작한 전체/카테고리 재집계가 이미 반영했으면 건너뛴다
+            long readSequence = aggregate != null ? aggregate.readSequence : loadedSequence;
+            if (sequence <= readSequence) {
+                return;
+            }
+            if (aggregate == null) {
+                aggregate = new CategoryAggregate(loadedSequence);
+                aggregates.put(category, aggregate);
+            }
+            aggregate.apply(delta);
+            if (aggregate.count <= 0) {
+                aggregates.remove(category);
+            }
+        });
+    }
+
+    private void reload() {
+        long readSequence = commitSequence.get();
+        List<CategoryStatsRow> rows = productRepository.aggregateByCategory(EXPENSIVE_PRICE);
+        aggregates.clear();
+        for (CategoryStatsRow row : rows) {
+            aggregates.put(row.category(), CategoryAggregate.of(row, readSequence));
+        }
+        loaded = true;
+        loadedAtNanos = System.nanoTime();
+        loadedSequence = readSequence;
+    }
+
+    private CategoryAggregate reloadCategory(String category) {
+        long readSequence = commitSequence.get();
+        Optional<CategoryStatsRow> row = category == null
+                ? productRepository.aggregateUncategorized(EXPENSIVE_PRICE)
+                : productRepository.aggregateCategory(category, EXPENSIVE_PRICE);
+        if (row.isEmpty()) {
+            aggregates.remove(category);
+            return null;
+        }
+        CategoryAggregate aggregate = CategoryAggregate.of(row.get(), readSequence);
+        aggregates.put(category, aggregate);
+        return aggregate;
+    }
+
+    private static boolean isExpensive(double price) {
+        return price > EXPENSIVE_PRICE;
+    }
+
+    /**
+     * 한 트랜잭션 안에서 한 카테고리에 생긴 변화량
+     */
+    private static final class CategoryDelta {
+        private long count;
+        private double sumPrice;
+        private long inStockCount;
+        private long expensiveCount;
+        private double addedMin = Double.POSITIVE_INFINITY;
+        private double addedMax = Double.NEGATIVE_INFINITY;
+        private double removedMin = Double.POSITIVE_INFINITY;
+        private double removedMax = Double.NEGATIVE_INFINITY;
+
+        private void add(Double price, Boolean inStock, int sign) {
+            double value = price == null ? 0.0 : price;
+            count += sign;
+            sumPrice += sign * value;
+            if (Boolean.TRUE.equals(inStock)) {
+                inStockCount += sign;
+            }
+            if (isExpensive(value)) {
+                expensiveCount += sign;
+            }
+            if (sign > 0) {
+                addedMin = Math.min(addedMin, value);
+                addedMax = Math.max(addedMax, value);
+            } else {
+                removedMin = Math.min(removedMin, value);
+                removedMax = Math.max(removedMax, value);
+            }
+        }
+    }
+
+    /**
+     * 카테고리별 누적 집계
+     */
+    private static final class CategoryAggregate {
+        private long count;
+        private double sumPrice;
+        private long inStockCount;
+        private long expensiveCount;
+        private double minPrice = Double.POSITIVE_INFINITY;
+        private double maxPrice = Double.NEGATIVE_INFINITY;
+        // 최저/최고가였던 값이 빠져서 다시 집계해야 하는지
+        private boolean extremesStale;
+        // 이 집계를 읽은 쿼리 직전의 커밋 순번 (이하 순번의 변화량은 이미 포함)
+        private final long readSequence;
+
+        private CategoryAggregate(long readSequence) {
+            this.readSequence = readSequence;
+        }
+
+        private static CategoryAggregate of(CategoryStatsRow row, long readSequence) {
+            CategoryAggregate aggregate = new CategoryAggregate(readSequence);
+            aggregate.count = row.count();
+            aggregate.sumPrice = row.sumPrice();
+            aggregate.inStockCount = row.inStockCount();
+            aggregate.expensiveCount = row.expensiveCount();
+            aggregate.minPrice = row.minPrice();
+            aggregate.maxPrice = row.maxPrice();
+            return aggregate;
+        }
+
+        private void apply(CategoryDelta delta) {
+            // 빠진 값 중에 기존 최저/최고가가 있으면 남은 행으로는 알 수 없다
+            boolean removed = delta.removedMin != Double.POSITIVE_INFINITY;
+            if (removed && (delta.removedMin <= minPrice || delta.removedMax >= maxPrice)) {
+                extremesStale = true;
+            }
+            count += delta.count;
+            sumPrice += delta.sumPrice;
+            inStockCount += delta.inStockCount;
+            expensiveCount += delta.expensiveCount;
+            minPrice = Math.min(minPrice, delta.addedMin);
+            maxPrice = Math.max(maxPrice, delta.addedMax);
+        }
+
+        private CategoryStats toStats(String category) {
+            return new CategoryStats(category, count, minPrice, maxPrice,
+                    sumPrice / count, (double) inStockCount / count);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.datajpa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.datajpa.dto.BulkUpsertResult;
+import com.example.datajpa.dto.ProductQuery;
+import com.example.datajpa.entity.Product;
+import com.example.datajpa.exception.InvalidBulkUploadException;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 상품 대량 업서트 테스트
+ * pooled 시퀀스 + flush/clear 주기로 INSERT/UPDATE 가 JDBC 배치로 나가는지 확인하고,
+ * 엔티티마다 save 를 호출하는 방식과 처리량을 비교한다 (벤치마크는 ./gradlew benchmark).
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:product-bulk-upsert",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.org.springframework.transaction=INFO",
+    "logging.level.org.hibernate.stat=WARN",
+    "logging.level.com.example.datajpa=INFO"
+})
+class ProductBulkUpsertTest {
+
+    private static final int BENCHMARK_ROWS = Integer.getInteger("benchmark.bulk-rows", 100_000);
+
+    @Autowired
+    private ProductEntityManagerService productEntityManagerService;
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void csvInsertsAreBatched() throws IOException {
+        StringBuilder csv = new StringBuilder("name,price,description,category,inStock\n");
+        for (int i = 0; i < 1_000; i++) {
+            csv.append("bulk-csv-").append(i).append(',').append(100 + i).append(",\"설명, 쉼표 포함\",Bulk,true\n");
+        }
+        csv.append("missing-price,,설명,Bulk,true\n");
+        csv.append("bad-price,abc,설명,Bulk,true\n");
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        BulkUpsertResult result = upsert(csv.toString(), ProductBulkReader.Format.CSV);
+
+        assertThat(result.inserted()).isEqualTo(1_000);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).hasSize(2).first().asString().startsWith("1002행");
+        // 배치가 꺼져 있으면 INSERT 1,000 번 + 키 조회가 일어난다
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+        assertThat(productJpaService.query(ProductQuery.byName("bulk-csv-7"), Pageable.unpaged()).getContent())
+                .singleElement().satisfies(product -> {
+                    assertThat(product.price()).isEqualTo(107.0);
+                    assertThat(product.category()).isEqualTo("Bulk");
+                });
+    }
+
+    @Test
+    void ndjsonUpdatesExistingRowsAndRejectsUnknownIds() throws IOException {
+        Product product = productEntityManagerService.save(new Product("bulk-json", 10.0, "이전 설명", "Bulk"));
+
+        String ndjson = """
+                {"id": %d, "name": "bulk-json", "price": 20.0, "description": "새 설명", "category": "Bulk", "inStock": false}
+                {"name": "bulk-json-new", "price": 30.0, "category": "Bulk"}
+                {"id": 999999999, "name": "없는 상품", "price": 1.0}
+                {"name": "깨진 줄"
+                """.formatted(product.getId());
+
+        BulkUpsertResult result = upsert(ndjson, ProductBulkReader.Format.NDJSON);
+
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(2);
+        Product updated = productEntityManagerService.findById(product.getId());
+        assertThat(updated.getPrice()).isEqualTo(20.0);
+        assertThat(updated.getDescription()).isEqualTo("새 설명");
+        assertThat(updated.getInStock()).isFalse();
+    }
+
+    @Test
+    void failedChunkRollsBackAloneAndLaterChunksAreCommitted() throws IOException {
+        // 기본 flush-size 1000: 1~1000행 커밋, 1001~2000행 청크는 너무 긴 이름 때문에 롤백, 2001~2500행 커밋
+        StringBuilder csv = new StringBuilder("name,price,category\n");
+        for (int i = 0; i < 2_500; i++) {
+            String name = i == 1_500 ? "x".repeat(300) : "bulk-chunk-" + i;
+            csv.append(name).append(',').append(i).append(",BulkChunk\n");
+        }
+
+        BulkUpsertResult result = upsert(csv.toString(), ProductBulkReader.Format.CSV);
+
+        assertThat(result.inserted()).isEqualTo(1_500);
+        assertThat(result.rejected()).isEqualTo(1_000);
+        assertThat(result.errors()).singleElement().asString().startsWith("1002~2001행: 청크 저장 실패");
+        assertThat(productJpaService.query(ProductQuery.byCategory("BulkChunk"), Pageable.unpaged()).getContent())
+                .hasSize(1_500)
+                .noneMatch(product -> product.name().equals("bulk-chunk-1000"));
+    }
+
+    @Test
+    void csvBooleansMustBeTrueOrFalse() throws IOException {
+        String csv = """
+                name,price,category,inStock
+                bulk-bool-true,1,BulkBool,TRUE
+                bulk-bool-false,1,BulkBool,false
+                bulk-bool-yes,1,BulkBool,yes
+                bulk-bool-one,1,BulkBool,1
+                """;
+
+        BulkUpsertResult result = upsert(csv, ProductBulkReader.Format.CSV);
+
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                "4행: inStock 은 true 또는 false 여야 합니다: yes",
+                "5행: inStock 은 true 또는 false 여야 합니다: 1");
+    }
+
+    @Test
+    void csvWithoutRequiredColumnsIsRejectedUpFront() {
+        assertThatThrownBy(() -> upsert("title,cost\nA,1\n", ProductBulkReader.Format.CSV))
+                .isInstanceOf(InvalidBulkUploadException.class);
+        assertThatThrownBy(() -> ProductBulkReader.Format.fromContentType("application/json"))
+                .isInstanceOf(InvalidBulkUploadException.class);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void bulkUpsertOutpacesPerEntitySaveLoop() throws IOException {
+        List<Product> products = new ArrayList<>(BENCHMARK_ROWS);
+        StringBuilder csv = new StringBuilder("name,price,description,category,inStock\n");
+        for (int i = 0; i < BENCHMARK_ROWS; i++) {
+            products.add(new Product("loop-" + i, 1000.0 + i, "벤치마크 상품", "Loop"));
+            csv.append("bulk-").append(i).append(',').append(1000 + i).append(",벤치마크 상품,Bulk,true\n");
+        }
+
+        long start = System.nanoTime();
+        for (Product product : products) {
+            productEntityManagerService.save(product);
+        }
+        long loopNanos = System.nanoTime() - start;
+        long loopRowsPerSecond = BENCHMARK_ROWS * 1_000_000_000L / loopNanos;
+
+        BulkUpsertResult result = upsert(csv.toString(), ProductBulkReader.Format.CSV);
+
+        System.out.printf("상품 %,d건 저장%n", BENCHMARK_ROWS);
+        System.out.printf("  save() 반복 (행마다 트랜잭션) : %,d ms, %,d rows/s%n",
+                TimeUnit.NANOSECONDS.toMillis(loopNanos), loopRowsPerSecond);
+        System.out.printf("  bulkUpsert (배치 + flush/clear) : %,d ms, %,d rows/s%n",
+                result.elapsedMillis(), result.rowsPerSecond());
+
+        assertThat(result.inserted()).isEqualTo(BENCHMARK_ROWS);
+        assertThat(result.rowsPerSecond()).isGreaterThan(loopRowsPerSecond * 2);
+    }
+
+    private BulkUpsertResult upsert(String body, ProductBulkReader.Format format) throws IOException {
+        try (ProductBulkReader reader = new ProductBulkReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format)) {
+            return productEntityManagerService.bulkUpsert(reader);
+        }
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.datajpa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.datajpa.dto.ProductQuery;
+import com.example.datajpa.dto.ProductSummary;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 상품 목록 조회 메모리/지연 시간 벤치마크 (./gradlew benchmark)
+ * 기존 방식(findAll로 전체 엔티티 조회)과 페이지 단위 DTO 프로젝션 조회를 100만 건에서 비교한다.
+ * 할당량은 스레드별 할당 바이트(com.sun.management.ThreadMXBean)로 측정한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.org.springframework.transaction=INFO",
+    "logging.level.com.example.datajpa=INFO"
+})
+class ProductCatalogBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = Integer.getInteger("benchmark.products", 1_000_000);
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final String[] CATEGORIES = {"Electronics", "Books", "Clothing", "Home", "Sports"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void seed() {
+        long existing = productJpaService.count();
+        for (long start = existing; start < PRODUCT_COUNT; start += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (long i = start; i < Math.min(start + INSERT_BATCH_SIZE, PRODUCT_COUNT); i++) {
+                rows.add(new Object[] {
+                    "상품 " + i, 1000.0 + (i * 37) % 2_000_000, "벤치마크용 상품 설명 " + i,
+                    CATEGORIES[(int) (i % CATEGORIES.length)], i % 10 != 0
+                });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO products (id, name, price, description, category, in_stock) "
+                    + "VALUES (NEXT VALUE FOR products_seq, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    @Test
+    void pagedProjectionStaysFlatWhileFindAllGrowsWithTable() {
+        PageRequest firstPage = PageRequest.of(0, 20, Sort.by("id"));
+        PageRequest deepPage = PageRequest.of(PRODUCT_COUNT / 20 / 2, 20, Sort.by("id"));
+
+        // 워밍업
+        for (int i = 0; i < 50; i++) {
+            productJpaService.query(ProductQuery.all(), firstPage);
+            productJpaService.query(ProductQuery.byCategory("Books"), firstPage);
+        }
+
+        Measurement legacy = measure(() -> productJpaService.findAll().size());
+        Measurement first = measure(() ->
+                productJpaService.query(ProductQuery.all(), firstPage).getNumberOfElements());
+        Measurement category = measure(() ->
+                productJpaService.query(ProductQuery.byCategory("Books"), firstPage).getNumberOfElements());
+        Measurement priceOrdered = measure(() ->
+                productJpaService.findSummariesByCategoryOrderByPrice("Books", firstPage).getNumberOfElements());
+        Measurement deep = measure(() -> productJpaService.query(ProductQuery.all(), deepPage).getNumberOfElements());
+
+        System.out.printf("상품 %,d건 목록 조회%n", PRODUCT_COUNT);
+        System.out.println("  findAll (엔티티 전체)        : " + legacy);
+        System.out.println("  첫 페이지 (DTO 20건)         : " + first);
+        System.out.println("  카테고리 첫 페이지           : " + category);
+        System.out.println("  카테고리 가격순 첫 페이지    : " + priceOrdered);
+        System.out.println("  중간 페이지 (OFFSET " + deepPage.getOffset() + ") : " + deep);
+
+        assertThat(legacy.rows).isGreaterThanOrEqualTo(PRODUCT_COUNT);
+        assertThat(first.rows).isEqualTo(20);
+        assertThat(first.allocatedBytes).isLessThan(legacy.allocatedBytes / 1_000);
+        assertThat(category.allocatedBytes).isLessThan(legacy.allocatedBytes / 1_000);
+        assertThat(first.nanos).isLessThan(legacy.nanos / 10);
+    }
+
+    @Test
+    void projectionDoesNotHydrateEntities() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+
+            Slice<ProductSummary> slice = productJpaService.query(ProductQuery.byCategory("Books"), PageRequest.of(0, 100));
+            assertThat(slice.getContent()).hasSize(100).allMatch(summary -> "Books".equals(summary.category()));
+            assertThat(slice.hasNext()).isTrue();
+            assertThat(session.getStatistics().getEntityCount()).isZero();
+
+            // 비교: 기존 방식은 카테고리 전체를 관리 엔티티로 적재
+            productJpaService.findByCategory("Books");
+            assertThat(session.getStatistics().getEntityCount()).isGreaterThanOrEqualTo(PRODUCT_COUNT / CATEGORIES.length);
+        });
+    }
+
+    private static Measurement measure(Supplier<Integer> query) {
+        long beforeBytes = allocatedBytes();
+        long start = System.nanoTime();
+        int rows = query.get();
+        long nanos = System.nanoTime() - start;
+        return new Measurement(rows, nanos, allocatedBytes() - beforeBytes);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private record Measurement(int rows, long nanos, long allocatedBytes) {
+        @Override
+        public String toString() {
+            return String.format("%,d건, %,d ms, 할당 %,d KB", rows,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), allocatedBytes / 1024);
+        }
+    }
+}
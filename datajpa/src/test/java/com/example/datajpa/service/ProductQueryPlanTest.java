@@ -0,0 +1,122 @@
+package com.example.datajpa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.datajpa.dto.ProductQuery;
+import com.example.datajpa.dto.ProductSummary;
+import com.example.datajpa.exception.InvalidProductQueryException;
+import com.example.datajpa.support.CapturingStatementInspector;
+
+/**
+ * 조건 조합 조회 실행 계획 테스트
+ * 조건과 정렬이 SQL 하나로 실행되고, H2 EXPLAIN 결과에서 인덱스를 사용하는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:product-query-plan",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.example.datajpa.support.CapturingStatementInspector"
+})
+class ProductQueryPlanTest {
+
+    private static final int PRODUCT_COUNT = 20_000;
+    private static final String[] CATEGORIES = {"Electronics", "Books", "Clothing", "Home", "Sports"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @BeforeEach
+    void seed() {
+        if (productJpaService.count() >= PRODUCT_COUNT) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            rows.add(new Object[] {
+                "상품 " + i, 1000.0 + (i * 37) % 200_000, CATEGORIES[i % CATEGORIES.length], i % 10 != 0
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO products (id, name, price, category, in_stock) "
+                + "VALUES (NEXT VALUE FOR products_seq, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void combinedFilterRunsAsOneStatementOnCategoryPriceIndex() {
+        ProductQuery query = new ProductQuery(null, null, "Books", 10_000.0, 50_000.0, true);
+
+        CapturingStatementInspector.clear();
+        Slice<ProductSummary> slice = productJpaService.query(query, PageRequest.of(0, 20, Sort.by("price")));
+        List<String> statements = CapturingStatementInspector.statements();
+
+        assertThat(statements).hasSize(1);
+        String sql = statements.get(0).toLowerCase();
+        assertThat(sql).contains("where", "category", "price", "in_stock", "order by");
+        assertThat(sql).containsAnyOf("fetch first", "limit");
+
+        assertThat(explain(statements.get(0))).containsIgnoringCase("IDX_PRODUCTS_CATEGORY_PRICE");
+
+        assertThat(slice.getContent()).hasSize(20).allSatisfy(product -> {
+            assertThat(product.category()).isEqualTo("Books");
+            assertThat(product.price()).isBetween(10_000.0, 50_000.0);
+            assertThat(product.inStock()).isTrue();
+        });
+        assertThat(slice.getContent()).extracting(ProductSummary::price).isSorted();
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void priceOnlyFilterUsesPriceIndex() {
+        CapturingStatementInspector.clear();
+        productJpaService.query(ProductQuery.byPriceRange(5_000.0, 6_000.0), PageRequest.of(0, 20, Sort.by("price")));
+        List<String> statements = CapturingStatementInspector.statements();
+
+        assertThat(statements).hasSize(1);
+        assertThat(explain(statements.get(0))).containsIgnoringCase("IDX_PRODUCTS_PRICE");
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        assertThatThrownBy(() -> productJpaService.query(ProductQuery.all(), PageRequest.of(0, 20, Sort.by("description"))))
+                .isInstanceOf(InvalidProductQueryException.class);
+        assertThatThrownBy(() -> productJpaService.query(ProductQuery.byPriceRange(10.0, 1.0), PageRequest.of(0, 20)))
+                .isInstanceOf(InvalidProductQueryException.class);
+    }
+
+    @Test
+    void keywordWildcardsMatchLiterally() {
+        productJpaService.createProduct("할인_50% 쿠폰", 1.0, "검색어 이스케이프", "Coupon");
+
+        assertThat(productJpaService.query(ProductQuery.byKeyword("_50%"), PageRequest.of(0, 20)).getContent())
+                .extracting(ProductSummary::name)
+                .containsExactly("할인_50% 쿠폰");
+        assertThat(productJpaService.query(ProductQuery.byKeyword("%"), PageRequest.of(0, 20)).getContent())
+                .extracting(ProductSummary::name)
+                .containsExactly("할인_50% 쿠폰");
+        assertThat(productJpaService.query(ProductQuery.byKeyword("상_"), PageRequest.of(0, 20)).getContent())
+                .isEmpty();
+    }
+
+    /**
+     * H2 EXPLAIN 은 파라미터 값 없이 실행 계획을 보여준다
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.datajpa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.datajpa.dto.CategoryStats;
+import com.example.datajpa.dto.ProductStats;
+import com.example.datajpa.entity.Product;
+import com.example.datajpa.repository.ProductRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 상품 통계 캐시 테스트
+ * GROUP BY 결과와 일치하는지, 상품 변경이 쿼리 없이 증분 반영되는지,
+ * 롤백된 변경은 반영되지 않는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:product-stats",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.org.springframework.transaction=INFO",
+    "logging.level.org.hibernate.stat=WARN",
+    "logging.level.com.example.datajpa=INFO"
+})
+class ProductStatsServiceTest {
+
+    @Autowired
+    private ProductStatsService productStatsService;
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statsMatchProductTableAndAreServedFromCache() {
+        ProductStats stats = productStatsService.getStats();
+
+        List<Product> products = productJpaService.findAll();
+        assertThat(stats.totalCount()).isEqualTo(products.size());
+        assertThat(stats.expensiveProductsCount())
+                .isEqualTo(products.stream().filter(p -> p.getPrice() > ProductStatsService.EXPENSIVE_PRICE).count());
+        Map<String, List<Product>> byCategory = products.stream()
+                .filter(p -> p.getCategory() != null)
+                .collect(Collectors.groupingBy(Product::getCategory));
+        byCategory.forEach((category, rows) -> {
+            CategoryStats categoryStats = category(stats, category);
+            assertThat(categoryStats.count()).isEqualTo(rows.size());
+            assertThat(categoryStats.minPrice())
+                    .isEqualTo(rows.stream().mapToDouble(Product::getPrice).min().orElseThrow());
+            assertThat(categoryStats.maxPrice())
+                    .isEqualTo(rows.stream().mapToDouble(Product::getPrice).max().orElseThrow());
+            assertThat(categoryStats.avgPrice())
+                    .isCloseTo(rows.stream().mapToDouble(Product::getPrice).average().orElseThrow(), within(1e-6));
+            assertThat(categoryStats.inStockRatio())
+                    .isCloseTo((double) rows.stream().filter(p -> Boolean.TRUE.equals(p.getInStock())).count()
+                            / rows.size(), within(1e-9));
+        });
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        productStatsService.getStats();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void writesAreAppliedIncrementally() {
+        productStatsService.getStats();
+        Product cheap = productJpaService.createProduct("통계-저가", 10.0, "통계 테스트", "StatsTest");
+        Product middle = productJpaService.createProduct("통계-중간", 50.0, "통계 테스트", "StatsTest");
+        Product expensive = productJpaService.createProduct("통계-고가", 1500.0, "통계 테스트", "StatsTest");
+
+        Statistics statistics = statistics();
+        statistics.clear();
+        CategoryStats created = category(productStatsService.getStats(), "StatsTest");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(created.count()).isEqualTo(3);
+        assertThat(created.minPrice()).isEqualTo(10.0);
+        assertThat(created.maxPrice()).isEqualTo(1500.0);
+        assertThat(created.avgPrice()).isCloseTo(520.0, within(1e-9));
+
+        // 최저/최고가가 아닌 값의 변경은 쿼리 없이 반영
+        productJpaService.updateProduct(middle.getId(), "통계-중간", 80.0, "통계 테스트", "StatsTest");
+        statistics.clear();
+        CategoryStats updated = category(productStatsService.getStats(), "StatsTest");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(updated.avgPrice()).isCloseTo(530.0, within(1e-9));
+
+        // 최고가 상품이 빠지면 그 카테고리만 다시 집계
+        productJpaService.deleteProduct(expensive.getId());
+        statistics.clear();
+        CategoryStats deleted = category(productStatsService.getStats(), "StatsTest");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(deleted.count()).isEqualTo(2);
+        assertThat(deleted.maxPrice()).isEqualTo(80.0);
+
+        // 카테고리 이동
+        productJpaService.updateProduct(cheap.getId(), "통계-저가", 10.0, "통계 테스트", "StatsMoved");
+        ProductStats moved = productStatsService.getStats();
+        assertThat(category(moved, "StatsMoved").count()).isEqualTo(1);
+        assertThat(category(moved, "StatsTest").minPrice()).isEqualTo(80.0);
+
+        // 전체 재집계 결과와 같아야 한다
+        productStatsService.invalidate();
+        assertThat(productStatsService.getStats()).isEqualTo(moved);
+    }
+
+    @Test
+    void rolledBackWritesAreIgnored() {
+        ProductStats before = productStatsService.getStats();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productJpaService.createProduct("롤백", 99.0, "통계 테스트", "StatsRollback");
+            productRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        ProductStats after = productStatsService.getStats();
+        assertThat(after.totalCount()).isEqualTo(before.totalCount());
+        assertThat(after.categories()).noneMatch(stats -> "StatsRollback".equals(stats.category()));
+    }
+
+    @Test
+    void reloadWhileCommitIsWaitingDoesNotCountItTwice() throws InterruptedException {
+        productStatsService.getStats();
+        productStatsService.invalidate();
+
+        Thread writer = new Thread(() ->
+                productJpaService.createProduct("통계-경합", 70.0, "통계 테스트", "StatsRace"));
+        synchronized (productStatsService) {
+            // 커밋을 마친 쓰기 스레드가 afterCommit 에서 통계 모니터를 기다리는 동안 재적재
+            writer.start();
+            awaitBlocked(writer);
+            assertThat(productRepository.existsByCategory("StatsRace")).isTrue();
+            assertThat(category(productStatsService.getStats(), "StatsRace").count()).isEqualTo(1);
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(category(productStatsService.getStats(), "StatsRace").count()).isEqualTo(1);
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (thread.getState() != Thread.State.BLOCKED) {
+            assertThat(System.nanoTime()).as("쓰기 스레드가 통계 모니터에서 대기해야 한다").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static CategoryStats category(ProductStats stats, String category) {
+        return stats.categories().stream()
+                .filter(categoryStats -> Objects.equals(category, categoryStats.category()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.datajpa.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.datajpa.entity.Product;
+import com.example.datajpa.entity.User;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2차 캐시 테스트
+ * 두 번째 조회부터 SQL 없이 캐시에서 읽는지, 변경 후에는 캐시가 무효화되는지,
+ * 적중률 지표가 MeterRegistry 에 올라가는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:second-level-cache",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.use_sql_comments=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+    "logging.level.org.springframework.transaction=INFO",
+    "logging.level.com.example.datajpa=INFO"
+})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProductJpaService productJpaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findByIdIsServedFromEntityCache() throws InterruptedException {
+        User user = userService.createUser("cache_user", "cache_user@example.com", "캐시 사용자", 30);
+        entityManagerFactory.getCache().evictAll();
+
+        statistics.clear();
+        userService.findById(user.getId()).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        awaitNextCacheTimestamp();
+
+        statistics.clear();
+        User cached = userService.findById(user.getId()).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(cached.getEmail()).isEqualTo("cache_user@example.com");
+    }
+
+    @Test
+    void usernameAndEmailLookupsAreServedFromQueryCache() throws InterruptedException {
+        userService.createUser("cache_query", "cache_query@example.com", "변경 전", 20);
+        awaitNextCacheTimestamp();
+
+        userService.findByUsername("cache_query").orElseThrow();
+        userService.findByEmail("cache_query@example.com").orElseThrow();
+        awaitNextCacheTimestamp();
+
+        statistics.clear();
+        userService.findByUsername("cache_query").orElseThrow();
+        userService.findByEmail("cache_query@example.com").orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+
+        // users 테이블이 바뀌면 쿼리 캐시 결과는 버려진다
+        User user = userService.findByUsername("cache_query").orElseThrow();
+        userService.updateUser(user.getId(), "변경 후", 21);
+        statistics.clear();
+        User updated = userService.findByUsername("cache_query").orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+        assertThat(updated.getFullName()).isEqualTo("변경 후");
+    }
+
+    @Test
+    void categoryLookupIsServedFromQueryCacheUntilProductsChange() throws InterruptedException {
+        productJpaService.createProduct("캐시 상품 1", 10.0, "캐시 테스트", "CacheTest");
+        awaitNextCacheTimestamp();
+        assertThat(productJpaService.findByCategory("CacheTest")).hasSize(1);
+        awaitNextCacheTimestamp();
+
+        statistics.clear();
+        assertThat(productJpaService.findByCategory("CacheTest")).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        productJpaService.createProduct("캐시 상품 2", 20.0, "캐시 테스트", "CacheTest");
+        List<Product> products = productJpaService.findByCategory("CacheTest");
+        assertThat(products).extracting(Product::getName).containsExactlyInAnyOrder("캐시 상품 1", "캐시 상품 2");
+    }
+
+    @Test
+    void hitRatiosArePublishedAsMetrics() throws InterruptedException {
+        User user = userService.createUser("cache_metrics", "cache_metrics@example.com");
+        userService.findById(user.getId());
+        awaitNextCacheTimestamp();
+        userService.findById(user.getId());
+
+        assertThat(meterRegistry.get("datajpa.cache.hit.ratio").tag("cache", "entity").gauge().value())
+                .isGreaterThan(0.0);
+        assertThat(meterRegistry.get("datajpa.cache.region.hit.ratio").tag("region", "user").gauge().value())
+                .isGreaterThan(0.0);
+        assertThat(meterRegistry.find("datajpa.cache.hit.ratio").tag("cache", "query").gauge()).isNotNull();
+    }
+
+    // 캐시 항목은 넣은 시각 이후에 시작한 트랜잭션에만 보이므로, 타임스탬프가 바뀔 때까지 기다린다
+    private void awaitNextCacheTimestamp() throws InterruptedException {
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory();
+        long current = regionFactory.nextTimestamp();
+        while (regionFactory.nextTimestamp() <= current) {
+            Thread.sleep(1);
+        }
+    }
+}
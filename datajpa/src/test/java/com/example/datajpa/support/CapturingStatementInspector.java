@@ -0,0 +1,31 @@
+package com.example.datajpa.support;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 기록하는 테스트용 StatementInspector
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
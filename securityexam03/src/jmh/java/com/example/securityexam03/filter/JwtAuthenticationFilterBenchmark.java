@@ -0,0 +1,83 @@
+package com.example.securityexam03.filter;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.service.CustomUserDetailsService;
+import com.example.securityexam03.service.JwtBlacklistService;
+import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JWT 인증 필터 처리량 비교
+ * - legacyTripleParse: 기존 필터 방식 (validateToken + getUsername + getRoles, 매번 새 파서로 세 번 파싱)
+ * - parseOnce: 캐시된 파서로 한 번 검증해 ParsedToken 생성
+ * - filter: 인증 필터 전체 (Redis 없이 실행하므로 블랙리스트 조회 비용은 제외)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private byte[] legacySecret;
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        legacySecret = Base64.getEncoder()
+                .encodeToString("your-secret-key-for-jwt-token-generation".getBytes())
+                .getBytes();
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 3600000);
+        filter = new JwtAuthenticationFilter(jwtUtil, new CustomUserDetailsService(), new JwtBlacklistService());
+        token = jwtUtil.createToken("jwt_admin", List.of("ROLE_ADMIN", "ROLE_USER"));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> legacyTripleParse() {
+        Jwts.parserBuilder().setSigningKey(legacySecret).build().parseClaimsJws(token);
+        Jwts.parserBuilder().setSigningKey(legacySecret).build().parseClaimsJws(token).getBody().getSubject();
+        Claims claims = Jwts.parserBuilder().setSigningKey(legacySecret).build().parseClaimsJws(token).getBody();
+        return (List<String>) claims.get("roles");
+    }
+
+    @Benchmark
+    public ParsedToken parseOnce() {
+        return jwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public int filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            return response.getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
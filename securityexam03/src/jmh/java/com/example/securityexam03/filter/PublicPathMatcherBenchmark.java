@@ -0,0 +1,91 @@
+package com.example.securityexam03.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 공개 경로 매칭 비교 (200개 규칙: 정확 경로 120, 접두 경로 60, 세그먼트 와일드카드 20)
+ * - trie: PublicPathMatcher (해시 집합 + 세그먼트 트라이)
+ * - linearPathPattern: PathPattern 목록 순차 비교
+ * path 파라미터: 정확 경로 / 접두 경로 / 와일드카드 / 공개 경로가 아닌 일반 API 요청
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicPathMatcherBenchmark {
+
+    private static final String[] RESOURCES = {
+            "products", "orders", "users", "categories", "reviews",
+            "coupons", "carts", "payments", "shipments", "notices"
+    };
+
+    @Param({"/api/v2/products/info", "/assets/v3/orders/main.js", "/api/v1/reviews/123/public", "/api/admin/orders/123"})
+    private String path;
+
+    private PublicPathMatcher trie;
+    private List<PathPattern> linear;
+
+    @Setup
+    public void setUp() {
+        List<String> rules = realisticRules();
+        trie = new PublicPathMatcher(rules);
+
+        PathPatternParser parser = new PathPatternParser();
+        linear = new ArrayList<>(rules.size());
+        for (String rule : rules) {
+            linear.add(parser.parse(rule));
+        }
+    }
+
+    @Benchmark
+    public boolean trie() {
+        return trie.matches(path);
+    }
+
+    @Benchmark
+    public boolean linearPathPattern() {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : linear) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static List<String> realisticRules() {
+        List<String> rules = new ArrayList<>(200);
+        String[] leaves = {"info", "health", "version", "docs", "terms", "privacy"};
+        for (int version = 1; version <= 2; version++) {
+            for (String resource : RESOURCES) {
+                for (String leaf : leaves) {
+                    rules.add("/api/v" + version + "/" + resource + "/" + leaf);
+                }
+            }
+        }
+        for (int version = 1; version <= 3; version++) {
+            for (String resource : RESOURCES) {
+                rules.add("/assets/v" + version + "/" + resource + "/**");
+                rules.add("/public/v" + version + "/" + resource + "/**");
+            }
+        }
+        for (String resource : RESOURCES) {
+            rules.add("/api/v1/" + resource + "/*/public");
+            rules.add("/api/v2/" + resource + "/*/thumbnail");
+        }
+        return rules;
+    }
+}
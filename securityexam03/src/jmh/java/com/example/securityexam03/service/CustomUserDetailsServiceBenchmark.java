@@ -0,0 +1,58 @@
+package com.example.securityexam03.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 사용자 목록 로딩 비용 비교 (사용자 5명)
+ * - eagerEncoding: 예전 생성자처럼 비용 10으로 5번 순차 인코딩
+ * - precomputedHashes: users.json의 미리 계산한 해시 사용 (기본 설정)
+ * - plaintextAtTestStrength: 테스트 프로필처럼 평문 목록을 비용 4로 병렬 인코딩하고 완료까지 대기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomUserDetailsServiceBenchmark {
+
+    private static final List<String> PASSWORDS = List.of("password", "password", "password", "password", "admin123");
+
+    // src/test/resources/users-test.json 과 같은 평문 목록
+    private static final byte[] PLAINTEXT_USERS = """
+            {"users": [
+              {"username": "user1", "password": "password", "roles": ["ROLE_USER"]},
+              {"username": "admin", "password": "password", "roles": ["ROLE_ADMIN", "ROLE_USER"]},
+              {"username": "guest", "password": "password", "roles": ["ROLE_GUEST"]},
+              {"username": "jwt_user", "password": "password", "roles": ["ROLE_USER"]},
+              {"username": "jwt_admin", "password": "admin123", "roles": ["ROLE_ADMIN", "ROLE_USER"]}
+            ]}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @Benchmark
+    public List<String> eagerEncoding() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+        return PASSWORDS.stream().map(encoder::encode).toList();
+    }
+
+    @Benchmark
+    public CustomUserDetailsService precomputedHashes() {
+        return new CustomUserDetailsService();
+    }
+
+    @Benchmark
+    public CustomUserDetailsService plaintextAtTestStrength() {
+        CustomUserDetailsService service =
+                new CustomUserDetailsService(new ByteArrayResource(PLAINTEXT_USERS), new BCryptPasswordEncoder(4));
+        service.awaitPasswordEncoding();
+        return service;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.securityexam03.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.securityexam03.filter.PublicPathMatcher;
+
+/**
+ * JWT 인증 필터 설정
+ * jwt.filter.public-paths 규칙은 시작 시 PublicPathMatcher로 컴파일된다.
+ */
+@ConfigurationProperties(prefix = "jwt.filter")
+public class JwtFilterProperties {
+
+    /**
+     * JWT 검증을 건너뛰는 공개 경로 (PathPattern 문법)
+     */
+    private List<String> publicPaths = new ArrayList<>(PublicPathMatcher.DEFAULT_PATTERNS);
+
+    public List<String> getPublicPaths() {
+        return publicPaths;
+    }
+
+    public void setPublicPaths(List<String> publicPaths) {
+        this.publicPaths = publicPaths;
+    }
+}
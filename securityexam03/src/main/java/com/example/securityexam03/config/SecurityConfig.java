@@ -1,6 +1,8 @@
 package com.example.securityexam03.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,6 +17,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.example.securityexam03.filter.JwtAuthenticationFilter;
+import com.example.securityexam03.filter.PublicPathMatcher;
 import com.example.securityexam03.service.JwtBlacklistService;
 import com.example.securityexam03.util.JwtUtil;
 
@@ -24,6 +27,7 @@ import com.example.securityexam03.util.JwtUtil;
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(JwtFilterProperties.class)
 public class SecurityConfig {
 
     @Autowired
@@ -35,9 +39,19 @@ public class SecurityConfig {
     @Autowired
     private JwtBlacklistService jwtBlacklistService;
 
+    @Value("${jwt.claims-only-auth:false}")
+    private boolean claimsOnlyAuth;
+
+    @Autowired
+    private JwtFilterProperties jwtFilterProperties;
+
+    /**
+     * 새 해시를 만들 때의 BCrypt 비용 (검증은 해시에 기록된 비용을 따른다)
+     * CustomUserDetailsService도 이 빈을 주입받으므로, 설정 클래스 생성을 기다리지 않도록 static으로 둔다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int bcryptStrength) {
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -45,12 +59,21 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * JWT 필터 공개 경로 매처 (시작 시 한 번 컴파일)
+     */
+    @Bean
+    public PublicPathMatcher publicPathMatcher() {
+        return new PublicPathMatcher(jwtFilterProperties.getPublicPaths());
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         
         // JWT 인증 필터 생성
         JwtAuthenticationFilter jwtAuthenticationFilter = 
-            new JwtAuthenticationFilter(jwtUtil, userDetailsService, jwtBlacklistService);
+            new JwtAuthenticationFilter(jwtUtil, userDetailsService, jwtBlacklistService,
+                    claimsOnlyAuth, publicPathMatcher());
 
         http
             // CSRF 비활성화 (JWT 사용 시 불필요)
@@ -1,7 +1,9 @@
 package com.example.securityexam03.controller;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -15,10 +17,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.securityexam03.service.BlacklistUnavailableException;
 import com.example.securityexam03.service.JwtBlacklistService;
 import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -62,6 +67,8 @@ public class AdminController {
                 "GET /api/auth/validate - 토큰 검증",
                 "GET /api/admin/info - 관리자 정보",
                 "POST /api/admin/blacklist/{tokenId} - 토큰 무효화",
+                "POST /api/admin/blacklist/tokens - 토큰 일괄 무효화",
+                "POST /api/admin/blacklist/user - 사용자 토큰 일괄 무효화",
                 "DELETE /api/admin/blacklist/clear - 블랙리스트 초기화"
             });
             adminInfo.put("timestamp", new Date());
@@ -93,7 +100,8 @@ public class AdminController {
 
         try {
             // 토큰 유효성 검증
-            if (!jwtUtil.validateToken(token)) {
+            ParsedToken parsedToken = jwtUtil.parseToken(token);
+            if (parsedToken == null) {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("error", "Invalid token");
                 errorResponse.put("message", "유효하지 않은 토큰입니다");
@@ -101,7 +109,7 @@ public class AdminController {
             }
 
             // 토큰 만료 시간 조회
-            Date expirationDate = jwtUtil.getExpirationDate(token);
+            Date expirationDate = parsedToken.getExpiration();
             if (expirationDate != null) {
                 long remainingTime = expirationDate.getTime() - System.currentTimeMillis();
                 if (remainingTime > 0) {
@@ -136,6 +144,95 @@ public class AdminController {
         }
     }
 
+    /**
+     * 여러 토큰을 블랙리스트에 일괄 추가 (대량 로그아웃)
+     * 유효하지 않거나 이미 만료된 토큰은 건너뛴다.
+     */
+    @PostMapping("/blacklist/tokens")
+    public ResponseEntity<?> blacklistTokens(@RequestBody Map<String, List<String>> request) {
+        List<String> tokens = request.get("tokens");
+
+        if (tokens == null || tokens.isEmpty()) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Invalid tokens");
+            errorResponse.put("message", "토큰 목록이 제공되지 않았습니다");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        try {
+            List<ParsedToken> parsedTokens = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                ParsedToken parsedToken = token != null ? jwtUtil.parseToken(token) : null;
+                if (parsedToken != null) {
+                    parsedTokens.add(parsedToken);
+                }
+            }
+
+            long blacklisted = jwtBlacklistService.blacklistTokens(parsedTokens);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", blacklisted + "개의 토큰이 블랙리스트에 추가되었습니다");
+            response.put("requested", tokens.size());
+            response.put("blacklisted", blacklisted);
+            response.put("skipped", tokens.size() - blacklisted);
+            response.put("timestamp", new Date());
+
+            logger.info("✅ 관리자가 토큰을 일괄 블랙리스트에 추가: {} / {} 개", blacklisted, tokens.size());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            logger.error("❌ 토큰 일괄 블랙리스트 추가 중 오류 발생: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Blacklist operation failed");
+            errorResponse.put("message", "토큰 일괄 블랙리스트 추가 중 오류가 발생했습니다");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 사용자가 지정 시각 이전에 발급받은 모든 토큰 무효화 (계정 탈취 대응)
+     * issuedBefore(epoch 밀리초)를 생략하면 현재 시각을 사용하며, 미래 시각은 현재 시각으로 제한한다.
+     */
+    @PostMapping("/blacklist/user")
+    public ResponseEntity<?> revokeUserTokens(@RequestBody Map<String, Object> request) {
+        Object username = request.get("username");
+
+        if (username == null || username.toString().trim().isEmpty()) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Invalid username");
+            errorResponse.put("message", "사용자명이 제공되지 않았습니다");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            Object issuedBefore = request.get("issuedBefore");
+            long watermark = issuedBefore instanceof Number number ? Math.min(number.longValue(), now) : now;
+
+            jwtBlacklistService.revokeTokensIssuedBefore(username.toString(), watermark);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "사용자의 토큰이 일괄 무효화되었습니다");
+            response.put("username", username.toString());
+            response.put("issuedBefore", new Date(watermark));
+            response.put("timestamp", new Date());
+
+            logger.info("✅ 관리자가 사용자 토큰을 일괄 무효화: {}", username);
+            return ResponseEntity.ok(response);
+        } catch (BlacklistUnavailableException e) {
+            logger.error("❌ 사용자 토큰 일괄 무효화 기록 실패: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Blacklist unavailable");
+            errorResponse.put("message", "블랙리스트 저장소에 기록하지 못해 이 서버에만 적용되었습니다. 다시 시도해 주세요");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        } catch (Exception e) {
+            logger.error("❌ 사용자 토큰 일괄 무효화 중 오류 발생: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Revoke operation failed");
+            errorResponse.put("message", "사용자 토큰 일괄 무효화 중 오류가 발생했습니다");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
     /**
      * 현재 사용자의 토큰을 강제 무효화
      */
@@ -185,6 +282,9 @@ public class AdminController {
             stats.put("message", blacklistCount > 0 ? 
                 "현재 " + blacklistCount + "개의 토큰이 블랙리스트에 있습니다" : 
                 "블랙리스트가 비어있습니다");
+            stats.put("bloomFilter", jwtBlacklistService.getBloomFilterStats());
+            stats.put("revokedUserCount", jwtBlacklistService.getRevokedUserCount());
+            stats.put("circuitBreaker", jwtBlacklistService.getCircuitBreakerStats());
             stats.put("timestamp", new Date());
             
             return ResponseEntity.ok(stats);
@@ -199,19 +299,20 @@ public class AdminController {
 
     /**
      * 블랙리스트 전체 초기화
+     * 사용자별 무효화 기준 시각은 includeUserWatermarks=true 일 때만 함께 삭제한다.
      */
     @DeleteMapping("/blacklist/clear")
-    public ResponseEntity<?> clearBlacklist() {
+    public ResponseEntity<?> clearBlacklist(@RequestParam(defaultValue = "false") boolean includeUserWatermarks) {
         try {
-            long countBefore = jwtBlacklistService.getBlacklistCount();
-            jwtBlacklistService.clearBlacklist();
+            long clearedCount = jwtBlacklistService.clearBlacklist(includeUserWatermarks);
             
             Map<String, Object> response = new HashMap<>();
             response.put("message", "블랙리스트가 초기화되었습니다");
-            response.put("clearedCount", countBefore);
+            response.put("clearedCount", clearedCount);
+            response.put("userWatermarksCleared", includeUserWatermarks);
             response.put("timestamp", new Date());
             
-            logger.info("✅ 관리자가 블랙리스트를 초기화 - {} 개의 토큰 삭제", countBefore);
+            logger.info("✅ 관리자가 블랙리스트를 초기화 - {} 개의 토큰 삭제", clearedCount);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             logger.error("❌ 블랙리스트 초기화 중 오류 발생: {}", e.getMessage());
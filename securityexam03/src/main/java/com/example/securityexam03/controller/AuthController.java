@@ -17,6 +17,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -25,9 +26,14 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.securityexam03.dto.LoginRequest;
 import com.example.securityexam03.dto.LoginResponse;
+import com.example.securityexam03.dto.RefreshTokenRequest;
 import com.example.securityexam03.service.CustomUserDetailsService;
+import com.example.securityexam03.service.InvalidRefreshTokenException;
 import com.example.securityexam03.service.JwtBlacklistService;
+import com.example.securityexam03.service.RefreshTokenService;
+import com.example.securityexam03.service.TokenPair;
 import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -53,6 +59,9 @@ public class AuthController {
     @Autowired
     private JwtBlacklistService jwtBlacklistService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     /**
      * JWT 기반 로그인
      */
@@ -76,11 +85,9 @@ public class AuthController {
                     .map(GrantedAuthority::getAuthority)
                     .toList();
 
-            // JWT 토큰 생성
-            String token = jwtUtil.createToken(userDetails.getUsername(), roles);
-            Date expiresAt = new Date(System.currentTimeMillis() + jwtUtil.getTokenValidityInMilliseconds());
-
-            LoginResponse response = new LoginResponse(token, userDetails.getUsername(), roles, expiresAt);
+            // 액세스 토큰 + 리프레시 토큰 발급
+            TokenPair tokens = refreshTokenService.issue(userDetails.getUsername(), roles);
+            LoginResponse response = toLoginResponse(tokens);
             
             logger.info("✅ 로그인 성공 - 사용자: {}, 권한: {}", userDetails.getUsername(), roles);
             return ResponseEntity.ok(response);
@@ -100,25 +107,59 @@ public class AuthController {
         }
     }
 
+    /**
+     * 리프레시 토큰으로 토큰 갱신 (리프레시 토큰도 새로 교체)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshTokenRequest refreshRequest) {
+        try {
+            TokenPair tokens = refreshTokenService.rotate(refreshRequest.getRefreshToken());
+            LoginResponse response = toLoginResponse(tokens);
+            response.setMessage("토큰 갱신 성공");
+            return ResponseEntity.ok(response);
+
+        } catch (InvalidRefreshTokenException e) {
+            logger.warn("❌ 토큰 갱신 실패: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.isReuseDetected() ? "Refresh token reused" : "Invalid refresh token");
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        } catch (UsernameNotFoundException e) {
+            logger.warn("❌ 토큰 갱신 실패 - 사용자 없음: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Invalid refresh token");
+            errorResponse.put("message", "사용자를 찾을 수 없습니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+        } catch (Exception e) {
+            logger.error("❌ 토큰 갱신 중 오류 발생: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Token refresh failed");
+            errorResponse.put("message", "토큰 갱신 중 오류가 발생했습니다");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
     /**
      * JWT 기반 로그아웃
+     * 본문에 리프레시 토큰이 있으면 해당 토큰 계열도 함께 폐기한다.
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
+    public ResponseEntity<?> logout(HttpServletRequest request,
+                                    @RequestBody(required = false) RefreshTokenRequest refreshRequest) {
         String header = request.getHeader("Authorization");
         
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
             
             try {
-                // 토큰 만료 시간 조회
-                Date expirationDate = jwtUtil.getExpirationDate(token);
-                if (expirationDate != null) {
-                    long remainingTime = expirationDate.getTime() - System.currentTimeMillis();
-                    if (remainingTime > 0) {
-                        // 블랙리스트에 추가
-                        jwtBlacklistService.blacklistToken(token, remainingTime);
+                // 한 번 검증한 토큰의 jti와 만료 시각으로 남은 시간 동안 블랙리스트에 추가
+                ParsedToken parsedToken = jwtUtil.parseToken(token);
+                if (parsedToken != null) {
+                    // 리프레시 토큰 계열은 액세스 토큰과 같은 사용자의 것일 때만 폐기
+                    if (refreshRequest != null) {
+                        refreshTokenService.revoke(refreshRequest.getRefreshToken(), parsedToken.getSubject());
                     }
+                    jwtBlacklistService.blacklistToken(parsedToken);
                 }
 
                 // 현재 인증 정보 제거
@@ -194,18 +235,17 @@ public class AuthController {
             String token = header.substring(7);
             
             try {
-                boolean isValid = jwtUtil.validateToken(token) && !jwtBlacklistService.isBlacklisted(token);
+                ParsedToken parsedToken = jwtUtil.parseToken(token);
+                boolean isValid = parsedToken != null && !jwtBlacklistService.isBlacklisted(parsedToken);
                 
                 Map<String, Object> response = new HashMap<>();
                 response.put("valid", isValid);
                 response.put("timestamp", new Date());
                 
                 if (isValid) {
-                    String username = jwtUtil.getUsername(token);
-                    List<String> roles = jwtUtil.getRoles(token);
-                    response.put("username", username);
-                    response.put("roles", roles);
-                    response.put("expiresAt", jwtUtil.getExpirationDate(token));
+                    response.put("username", parsedToken.getSubject());
+                    response.put("roles", parsedToken.getRoles());
+                    response.put("expiresAt", parsedToken.getExpiration());
                 }
                 
                 return ResponseEntity.ok(response);
@@ -226,6 +266,11 @@ public class AuthController {
         }
     }
 
+    private LoginResponse toLoginResponse(TokenPair tokens) {
+        return new LoginResponse(tokens.getAccessToken(), tokens.getUsername(), tokens.getRoles(),
+                tokens.getAccessTokenExpiresAt(), tokens.getRefreshToken(), tokens.getRefreshTokenExpiresAt());
+    }
+
     /**
      * 테스트 사용자 목록 조회
      */
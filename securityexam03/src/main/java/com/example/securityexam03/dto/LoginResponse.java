@@ -25,6 +25,12 @@ public class LoginResponse {
     @JsonProperty("expiresAt")
     private Date expiresAt;
     
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+    
+    @JsonProperty("refreshExpiresAt")
+    private Date refreshExpiresAt;
+    
     @JsonProperty("message")
     private String message;
 
@@ -38,6 +44,13 @@ public class LoginResponse {
         this.message = "로그인 성공";
     }
 
+    public LoginResponse(String token, String username, List<String> roles, Date expiresAt,
+                         String refreshToken, Date refreshExpiresAt) {
+        this(token, username, roles, expiresAt);
+        this.refreshToken = refreshToken;
+        this.refreshExpiresAt = refreshExpiresAt;
+    }
+
     public String getToken() {
         return token;
     }
@@ -78,6 +91,22 @@ public class LoginResponse {
         this.expiresAt = expiresAt;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Date getRefreshExpiresAt() {
+        return refreshExpiresAt;
+    }
+
+    public void setRefreshExpiresAt(Date refreshExpiresAt) {
+        this.refreshExpiresAt = refreshExpiresAt;
+    }
+
     public String getMessage() {
         return message;
     }
@@ -93,6 +122,7 @@ public class LoginResponse {
                 ", roles=" + roles +
                 ", tokenType='" + tokenType + '\'' +
                 ", expiresAt=" + expiresAt +
+                ", refreshExpiresAt=" + refreshExpiresAt +
                 ", message='" + message + '\'' +
                 '}';
     }
@@ -0,0 +1,31 @@
+package com.example.securityexam03.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 토큰 갱신 / 로그아웃 요청 DTO
+ */
+public class RefreshTokenRequest {
+
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+
+    public RefreshTokenRequest() {}
+
+    public RefreshTokenRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshTokenRequest{refreshToken='[PROTECTED]'}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.securityexam03.filter;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * 권한 조합별 GrantedAuthority 목록 캐시
+ * 토큰의 권한 조합은 몇 가지뿐이므로 요청마다 SimpleGrantedAuthority 목록을 새로 만들지 않고
+ * 미리 만든 불변 목록을 공유한다.
+ */
+public class GrantedAuthorityCache {
+
+    // 비정상적으로 많은 조합이 들어와도 메모리가 늘어나지 않도록 상한을 둔다
+    private static final int MAX_ROLE_SETS = 256;
+
+    private final ConcurrentMap<List<String>, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
+
+    /**
+     * 권한 조합에 해당하는 GrantedAuthority 목록 조회
+     * @param roles 권한 목록 (불변 목록이어야 캐시 키로 저장된다)
+     * @return 불변 GrantedAuthority 목록
+     */
+    public List<GrantedAuthority> forRoles(List<String> roles) {
+        List<GrantedAuthority> cached = authoritiesByRoles.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<GrantedAuthority> authorities = roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        if (authoritiesByRoles.size() < MAX_ROLE_SETS) {
+            List<GrantedAuthority> existing = authoritiesByRoles.putIfAbsent(List.copyOf(roles), authorities);
+            return existing != null ? existing : authorities;
+        }
+        return authorities;
+    }
+
+    /**
+     * 캐시된 권한 조합 수
+     * @return 조합 수
+     */
+    public int size() {
+        return authoritiesByRoles.size();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.securityexam03.filter;
 
 import com.example.securityexam03.service.JwtBlacklistService;
 import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +10,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -18,11 +19,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JWT 토큰을 통한 인증 처리 필터
  * 내용.md 6.5절 기반으로 구현
+ *
+ * 클레임 기반 인증 모드(jwt.claims-only-auth)에서는 UserDetailsService를 조회하지 않고
+ * 검증된 클레임과 권한 조합별로 공유되는 GrantedAuthority 목록만으로 인증 주체를 만든다.
  */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
@@ -31,12 +34,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
     private final JwtBlacklistService jwtBlacklistService;
+    private final boolean claimsOnly;
+    private final PublicPathMatcher publicPathMatcher;
+    private final GrantedAuthorityCache authorityCache = new GrantedAuthorityCache();
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
     public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, 
                                    JwtBlacklistService jwtBlacklistService) {
+        this(jwtUtil, userDetailsService, jwtBlacklistService, false);
+    }
+
+    /**
+     * @param claimsOnly true 이면 사용자 저장소 조회 없이 토큰 클레임만으로 인증
+     */
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   JwtBlacklistService jwtBlacklistService, boolean claimsOnly) {
+        this(jwtUtil, userDetailsService, jwtBlacklistService, claimsOnly,
+                new PublicPathMatcher(PublicPathMatcher.DEFAULT_PATTERNS));
+    }
+
+    /**
+     * @param claimsOnly true 이면 사용자 저장소 조회 없이 토큰 클레임만으로 인증
+     * @param publicPathMatcher JWT 검증을 건너뛰는 공개 경로 매처
+     */
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   JwtBlacklistService jwtBlacklistService, boolean claimsOnly,
+                                   PublicPathMatcher publicPathMatcher) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.jwtBlacklistService = jwtBlacklistService;
+        this.claimsOnly = claimsOnly;
+        this.publicPathMatcher = publicPathMatcher;
     }
 
     @Override
@@ -49,13 +77,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         logger.debug("🔍 JWT 필터 처리 - URI: {}, Method: {}", requestURI, method);
 
-        // 로그인 엔드포인트는 JWT 검증 제외
-        if (requestURI.equals("/api/auth/login") || requestURI.equals("/api/auth/refresh")) {
-            logger.debug("⏭️ 로그인/리프레시 엔드포인트 - JWT 검증 건너뛰기");
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         String header = request.getHeader("Authorization");
 
         if (header != null && header.startsWith("Bearer ")) {
@@ -64,8 +85,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             logger.debug("🎫 JWT 토큰 발견: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
 
             try {
+                // JWT 토큰 검증 (서명 검증은 한 번만 수행하고 결과를 재사용)
+                ParsedToken parsedToken = jwtUtil.parseToken(token);
+
                 // 블랙리스트 확인
-                if (jwtBlacklistService.isBlacklisted(token)) {
+                if (parsedToken != null && jwtBlacklistService.isBlacklisted(parsedToken)) {
                     logger.warn("🚫 블랙리스트에 포함된 토큰: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.setContentType("application/json");
@@ -73,30 +97,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                // JWT 토큰 검증
-                if (jwtUtil.validateToken(token)) {
-                    String username = jwtUtil.getUsername(token);
-                    List<String> roles = jwtUtil.getRoles(token);
-
-                    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                        // UserDetails 로드
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                        // 권한 설정
-                        List<SimpleGrantedAuthority> authorities = roles.stream()
-                                .map(SimpleGrantedAuthority::new)
-                                .collect(Collectors.toList());
-
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(
-                                        userDetails,
-                                        null,
-                                        authorities);
-
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                        logger.info("✅ JWT 인증 성공 - 사용자: {}, 권한: {}", username, roles);
+                if (parsedToken != null) {
+                    if (parsedToken.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                        authenticate(parsedToken, request);
                     }
                 } else {
                     logger.warn("❌ 유효하지 않은 JWT 토큰");
@@ -119,18 +122,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 검증된 토큰으로 인증 정보를 만들어 SecurityContext에 설정
+     * @param parsedToken 검증된 토큰 정보
+     * @param request HTTP 요청
+     */
+    void authenticate(ParsedToken parsedToken, HttpServletRequest request) {
+        String username = parsedToken.getSubject();
+
+        // 권한 설정 (권한 조합별로 미리 만든 목록 재사용)
+        List<GrantedAuthority> authorities = authorityCache.forRoles(parsedToken.getRoles());
+
+        // 클레임 기반 모드에서는 UserDetails를 로드하지 않는다
+        UserDetails principal = claimsOnly
+                ? new JwtPrincipal(username, authorities)
+                : userDetailsService.loadUserByUsername(username);
+
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        principal,
+                        null,
+                        authorities);
+
+        authentication.setDetails(detailsSource.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        logger.debug("✅ JWT 인증 성공 - 사용자: {}, 권한: {}", username, parsedToken.getRoles());
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-        
-        // 공개 엔드포인트들은 필터링하지 않음
-        return path.equals("/api/auth/login") ||
-               path.equals("/api/auth/refresh") ||
-               path.equals("/api/info") ||
-               path.startsWith("/actuator/") ||
-               path.startsWith("/static/") ||
-               path.startsWith("/css/") ||
-               path.startsWith("/js/") ||
-               path.startsWith("/images/");
+        // 공개 엔드포인트들은 필터링하지 않음 (jwt.filter.public-paths)
+        return publicPathMatcher.matches(request.getRequestURI());
     }
 } 
\ No newline at end of file
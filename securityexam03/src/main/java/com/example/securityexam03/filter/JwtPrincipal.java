@@ -0,0 +1,72 @@
+package com.example.securityexam03.filter;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 검증된 JWT 클레임만으로 만든 인증 주체
+ * 클레임 기반 인증 모드에서 사용자 저장소를 조회하지 않고 사용한다.
+ * 권한 목록은 GrantedAuthorityCache의 공유 인스턴스를 그대로 참조한다.
+ * 직렬화할 때는 권한 목록을 복사해 기록하고, 역직렬화하면 변경할 수 없는 목록으로 복원한다.
+ */
+public final class JwtPrincipal implements UserDetails {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String username;
+    private transient List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(String username, List<GrantedAuthority> authorities) {
+        this.username = username;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        // 토큰 기반 주체는 비밀번호를 갖지 않는다
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(new ArrayList<>(authorities));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        authorities = List.copyOf((List<GrantedAuthority>) in.readObject());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof JwtPrincipal other && username.equals(other.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal[username=" + username + ", authorities=" + authorities + "]";
+    }
+}
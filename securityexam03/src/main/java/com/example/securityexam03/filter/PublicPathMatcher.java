@@ -0,0 +1,179 @@
+package com.example.securityexam03.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PatternParseException;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * JWT 필터를 건너뛰는 공개 경로 매처
+ * 시작 시 규칙을 한 번 컴파일하고, 요청 경로 길이에 비례하는 시간으로 판정한다.
+ *
+ * - 와일드카드가 없는 경로: 해시 집합 (예: /api/info)
+ * - 세그먼트 단위 '*', 끝의 '**' 만 쓰는 경로: 세그먼트 트라이 (예: /actuator/**, /api/v1/*)
+ * - 그 밖의 PathPattern 문법: PathPattern 목록으로 순차 비교 (예: /files/*.png, /users/{id})
+ */
+public class PublicPathMatcher {
+
+    /**
+     * 설정이 없을 때 사용하는 기본 공개 경로
+     */
+    public static final List<String> DEFAULT_PATTERNS = List.of(
+            "/api/auth/login",
+            "/api/auth/refresh",
+            "/api/info",
+            "/actuator/**",
+            "/static/**",
+            "/css/**",
+            "/js/**",
+            "/images/**"
+    );
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final Node root = new Node();
+    private final List<PathPattern> fallbackPatterns = new ArrayList<>();
+    private final int ruleCount;
+
+    /**
+     * @param patterns 공개 경로 규칙 (PathPattern 문법)
+     * @throws IllegalArgumentException 규칙이 '/'로 시작하지 않거나 문법이 잘못된 경우
+     */
+    public PublicPathMatcher(Collection<String> patterns) {
+        PathPatternParser parser = new PathPatternParser();
+        int count = 0;
+        for (String raw : patterns) {
+            String pattern = raw == null ? "" : raw.trim();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            if (!pattern.startsWith("/")) {
+                throw new IllegalArgumentException("공개 경로는 '/'로 시작해야 합니다: " + pattern);
+            }
+
+            if (isLiteral(pattern)) {
+                exactPaths.add(pattern);
+            } else if (isTrieCompatible(pattern)) {
+                insert(pattern);
+            } else {
+                try {
+                    fallbackPatterns.add(parser.parse(pattern));
+                } catch (PatternParseException e) {
+                    throw new IllegalArgumentException("잘못된 공개 경로 규칙: " + pattern, e);
+                }
+            }
+            count++;
+        }
+        this.ruleCount = count;
+    }
+
+    /**
+     * 공개 경로 여부 확인
+     * @param path 요청 경로
+     * @return 공개 경로이면 true
+     */
+    public boolean matches(String path) {
+        if (path == null || path.isEmpty()) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (matchesTrie(root, path, 1)) {
+            return true;
+        }
+        if (!fallbackPatterns.isEmpty()) {
+            PathContainer container = PathContainer.parsePath(path);
+            for (PathPattern pattern : fallbackPatterns) {
+                if (pattern.matches(container)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컴파일된 규칙 수
+     * @return 규칙 수
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    private boolean matchesTrie(Node node, String path, int start) {
+        if (node.matchesRest) {
+            return true;
+        }
+        if (start > path.length()) {
+            return node.terminal;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        String segment = path.substring(start, end);
+
+        Node literal = node.children.get(segment);
+        if (literal != null && matchesTrie(literal, path, end + 1)) {
+            return true;
+        }
+        return node.wildcard != null && !segment.isEmpty() && matchesTrie(node.wildcard, path, end + 1);
+    }
+
+    private void insert(String pattern) {
+        String[] segments = pattern.substring(1).split("/", -1);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                // isTrieCompatible에서 마지막 세그먼트일 때만 허용
+                node.matchesRest = true;
+                return;
+            }
+            if (segment.equals("*")) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+        node.terminal = true;
+    }
+
+    private static boolean isLiteral(String pattern) {
+        return pattern.indexOf('*') < 0 && pattern.indexOf('?') < 0 && pattern.indexOf('{') < 0;
+    }
+
+    private static boolean isTrieCompatible(String pattern) {
+        String[] segments = pattern.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    return false;
+                }
+            } else if (!segment.equals("*") && !isLiteral(segment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node wildcard;
+        private boolean matchesRest;
+        private boolean terminal;
+    }
+}
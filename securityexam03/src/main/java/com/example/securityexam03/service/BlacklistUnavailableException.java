@@ -0,0 +1,18 @@
+package com.example.securityexam03.service;
+
+/**
+ * 블랙리스트 저장소(Redis)에 무효화를 기록하지 못했을 때 발생하는 예외
+ * 요청한 무효화가 다른 인스턴스에는 적용되지 않았을 수 있음을 호출자에게 알린다.
+ */
+public class BlacklistUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public BlacklistUnavailableException(String message) {
+        super(message);
+    }
+
+    public BlacklistUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
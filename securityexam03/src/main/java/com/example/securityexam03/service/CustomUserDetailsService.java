@@ -1,42 +1,75 @@
 package com.example.securityexam03.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * 사용자 인증 정보를 제공하는 서비스
  * JWT 예제를 위한 테스트 사용자 데이터 포함
+ *
+ * 사용자 목록은 JSON 리소스(기본 classpath:users.json)에서 읽는다.
+ * - passwordHash: 미리 계산한 BCrypt 해시를 그대로 사용 (시작 시 인코딩 비용 없음)
+ * - password: 평문이면 백그라운드에서 병렬로 인코딩하고, 첫 조회 때 완료를 기다린다
  */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
-    
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+    private static final String DEFAULT_USERS_LOCATION = "users.json";
+    private static final int DEFAULT_BCRYPT_STRENGTH = 10;
+
+    private final PasswordEncoder passwordEncoder;
     
     // 테스트용 사용자 데이터 (실제 운영에서는 데이터베이스 사용)
     private final Map<String, UserInfo> testUsers;
 
+    /**
+     * 기본 사용자 리소스와 기본 BCrypt 비용으로 생성 (스프링 컨텍스트 없이 쓰는 테스트, 벤치마크용)
+     */
     public CustomUserDetailsService() {
-        this.testUsers = Map.of(
-            "user1", new UserInfo("user1", passwordEncoder.encode("password"), List.of("ROLE_USER")),
-            "admin", new UserInfo("admin", passwordEncoder.encode("password"), List.of("ROLE_ADMIN", "ROLE_USER")),
-            "guest", new UserInfo("guest", passwordEncoder.encode("password"), List.of("ROLE_GUEST")),
-            "jwt_user", new UserInfo("jwt_user", passwordEncoder.encode("password"), List.of("ROLE_USER")),
-            "jwt_admin", new UserInfo("jwt_admin", passwordEncoder.encode("admin123"), List.of("ROLE_ADMIN", "ROLE_USER"))
-        );
-        
-        logger.info("✅ CustomUserDetailsService 초기화 완료 - 테스트 사용자 {} 명 로드", testUsers.size());
+        this(new ClassPathResource(DEFAULT_USERS_LOCATION), new BCryptPasswordEncoder(DEFAULT_BCRYPT_STRENGTH));
+    }
+
+    /**
+     * @param usersResource 사용자 목록 JSON 리소스
+     * @param passwordEncoder 평문 비밀번호 인코딩에 쓸 인코더 (SecurityConfig의 PasswordEncoder 빈)
+     */
+    @Autowired
+    public CustomUserDetailsService(@Value("${security.users.location:classpath:users.json}") Resource usersResource,
+                                    PasswordEncoder passwordEncoder) {
+        long start = System.nanoTime();
+        this.passwordEncoder = passwordEncoder;
+        this.testUsers = loadUsers(usersResource);
+
+        long pending = testUsers.values().stream().filter(user -> !user.password.isDone()).count();
+        logger.info("✅ CustomUserDetailsService 초기화 완료 - 테스트 사용자 {} 명 로드 ({} ms, 백그라운드 인코딩 {} 명)",
+                testUsers.size(), (System.nanoTime() - start) / 1_000_000, pending);
     }
 
     @Override
@@ -55,7 +88,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         UserDetails userDetails = User.builder()
                 .username(userInfo.username)
-                .password(userInfo.password)
+                .password(userInfo.password.join())
                 .authorities(authorities)
                 .build();
 
@@ -91,23 +124,66 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(entry -> new TestUser(
                     entry.getKey(), 
                     entry.getValue().roles,
-                    entry.getKey().equals("jwt_admin") ? "admin123" : "password"
+                    entry.getValue().samplePassword
                 ))
                 .toList();
     }
 
+    /**
+     * 평문 비밀번호 인코딩이 모두 끝날 때까지 대기
+     */
+    public void awaitPasswordEncoding() {
+        testUsers.values().forEach(user -> user.password.join());
+    }
+
+    private Map<String, UserInfo> loadUsers(Resource usersResource) {
+        JsonNode root;
+        try (InputStream in = usersResource.getInputStream()) {
+            root = new ObjectMapper().readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 목록을 읽을 수 없습니다: " + usersResource.getDescription(), e);
+        }
+
+        Map<String, UserInfo> users = new LinkedHashMap<>();
+        for (JsonNode node : root.path("users")) {
+            String username = node.path("username").asText();
+            List<String> roles = new ArrayList<>();
+            node.path("roles").forEach(role -> roles.add(role.asText()));
+
+            CompletableFuture<String> password;
+            String samplePassword = node.path("samplePassword").asText(null);
+            if (node.hasNonNull("passwordHash")) {
+                password = CompletableFuture.completedFuture(node.get("passwordHash").asText());
+            } else if (node.hasNonNull("password")) {
+                String rawPassword = node.get("password").asText();
+                // BCrypt는 의도적으로 느리므로 시작을 막지 않도록 공용 풀에서 사용자별로 병렬 인코딩
+                password = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword));
+                if (samplePassword == null) {
+                    samplePassword = rawPassword;
+                }
+            } else {
+                throw new IllegalStateException("사용자 비밀번호(passwordHash 또는 password)가 없습니다: " + username);
+            }
+
+            users.put(username, new UserInfo(username, password, List.copyOf(roles), samplePassword));
+        }
+        return Collections.unmodifiableMap(users);
+    }
+
     /**
      * 내부 사용자 정보 클래스
      */
     private static class UserInfo {
         final String username;
-        final String password;
+        final CompletableFuture<String> password;
         final List<String> roles;
+        final String samplePassword;
 
-        UserInfo(String username, String password, List<String> roles) {
+        UserInfo(String username, CompletableFuture<String> password, List<String> roles, String samplePassword) {
             this.username = username;
             this.password = password;
             this.roles = roles;
+            this.samplePassword = samplePassword;
         }
     }
 
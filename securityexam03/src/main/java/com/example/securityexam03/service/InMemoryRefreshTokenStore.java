@@ -0,0 +1,82 @@
+package com.example.securityexam03.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 기반 리프레시 토큰 저장소
+ * 테스트와 Redis 없는 단일 인스턴스 실행용이며, 인스턴스 간에 공유되지 않는다.
+ * 만료된 항목은 조회 시 무시하고, 저장 PURGE_INTERVAL 번마다 한 번씩 정리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final Map<String, RefreshTokenEntry> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> usedUntil = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+    private final AtomicLong saves = new AtomicLong();
+
+    @Override
+    public void save(RefreshTokenEntry entry, long ttlMillis) {
+        tokens.put(entry.getTokenHash(), entry);
+        if (saves.incrementAndGet() % PURGE_INTERVAL == 0) {
+            purgeExpired();
+        }
+    }
+
+    @Override
+    public RefreshTokenEntry find(String tokenHash) {
+        RefreshTokenEntry entry = tokens.get(tokenHash);
+        return entry != null && entry.getExpiresAt() > System.currentTimeMillis() ? entry : null;
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        boolean[] first = new boolean[1];
+        usedUntil.compute(tokenHash, (key, until) -> {
+            if (until != null && until > now) {
+                return until;
+            }
+            first[0] = true;
+            return now + ttlMillis;
+        });
+        return first[0];
+    }
+
+    @Override
+    public void revokeFamily(String familyId, long ttlMillis) {
+        revokedFamilies.put(familyId, System.currentTimeMillis() + ttlMillis);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        Long until = revokedFamilies.get(familyId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * 만료된 항목 정리
+     */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        tokens.values().removeIf(entry -> entry.getExpiresAt() <= now);
+        usedUntil.values().removeIf(until -> until <= now);
+        revokedFamilies.values().removeIf(until -> until <= now);
+    }
+
+    /**
+     * 보관 중인 토큰 수 (만료 정리 전 포함)
+     * @return 토큰 수
+     */
+    public int size() {
+        return tokens.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.securityexam03.service;
+
+/**
+ * 리프레시 토큰을 사용할 수 없을 때 발생하는 예외
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean reuseDetected;
+
+    public InvalidRefreshTokenException(String message, boolean reuseDetected) {
+        super(message);
+        this.reuseDetected = reuseDetected;
+    }
+
+    /**
+     * 이미 사용된 토큰이 다시 제시되었는지 여부
+     * @return 재사용 감지 시 true (해당 토큰 계열은 폐기됨)
+     */
+    public boolean isReuseDetected() {
+        return reuseDetected;
+    }
+}
@@ -1,56 +1,527 @@
 package com.example.securityexam03.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Service;
 
+import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
+import com.example.securityexam03.util.RecentlyRevokedTokenCache;
+import com.example.securityexam03.util.RedisCircuitBreaker;
+import com.example.securityexam03.util.RevokedTokenBloomFilter;
+
+import jakarta.annotation.PostConstruct;
+
 /**
  * JWT 토큰 블랙리스트 관리 서비스
  * 내용.md 6.6절 기반으로 구현
+ *
+ * 무효화되지 않은 토큰이 대부분이므로, 로컬 Bloom 필터가 "확실히 무효화되지 않음"을
+ * 판정하면 Redis 조회 없이 바로 반환하고, 양성일 때만 Redis로 확인한다.
+ *
+ * 개수 조회는 KEYS 대신 만료 시각을 점수로 하는 정렬 집합(COUNT_INDEX_KEY)을 사용하고,
+ * 전체 삭제는 SCAN 커서로 나누어 UNLINK 하므로 블랙리스트가 커져도 Redis를 막지 않는다.
+ *
+ * 키는 토큰 원문 대신 토큰 ID(jti)를 사용하고, jti가 없는 이전 토큰은
+ * SHA-256 앞 16바이트(Base64url 22자)로 대신한다.
+ *
+ * 여러 토큰의 일괄 무효화는 PIPELINE_BATCH_SIZE 개씩 파이프라인으로 묶어 한 번의 왕복으로 기록하고,
+ * 사용자 단위 무효화는 토큰별 항목 대신 "이 시각 이전 발급 토큰은 무효"인 기준 시각(워터마크)
+ * 하나만 REVOKE_BEFORE_KEY 해시에 기록한다. 워터마크는 로컬 스냅샷으로 확인하므로 요청마다 Redis를 조회하지 않는다.
+ *
+ * Redis 호출은 회로 차단기로 감싼다. 연속 실패로 회로가 열리면 Redis 타임아웃을 기다리지 않고
+ * 최근 무효화된 토큰의 로컬 LRU로 판정하며, 그동안 무효화된 토큰은 복구 후 Redis에 반영한다.
  */
 @Service
 public class JwtBlacklistService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtBlacklistService.class);
     private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+    // BLACKLIST_PREFIX + "*" 패턴에 걸리지 않도록 별도 이름을 사용
+    private static final String COUNT_INDEX_KEY = "jwt:blacklist-index";
+    private static final int SCAN_BATCH_SIZE = 500;
+    private static final int PIPELINE_BATCH_SIZE = 500;
+    // 사용자명 → 무효화 기준 시각 (epoch 밀리초)
+    private static final String REVOKE_BEFORE_KEY = "jwt:revoke-before";
+    private static final String BLACKLISTED = "blacklisted";
+    // jti(UUID)와 겹치지 않도록 해시 기반 ID에 붙이는 접두사
+    private static final String HASHED_ID_PREFIX = "h:";
+    private static final int HASHED_ID_BYTES = 16;
 
     @Autowired(required = false)
     private RedisTemplate<String, String> redisTemplate;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${jwt.blacklist.legacy-key-fallback:false}")
+    private boolean legacyKeyFallback;
+
+    @Value("${jwt.blacklist.bloom.enabled:true}")
+    private boolean bloomEnabled;
+
+    @Value("${jwt.blacklist.bloom.partition-minutes:5}")
+    private long bloomPartitionMinutes;
+
+    @Value("${jwt.blacklist.bloom.expected-insertions:100000}")
+    private int bloomExpectedInsertions;
+
+    @Value("${jwt.blacklist.bloom.false-positive-rate:0.001}")
+    private double bloomFalsePositiveRate;
+
+    @Value("${jwt.blacklist.bloom.rebuild-after-removals:1000}")
+    private long bloomRebuildAfterRemovals;
+
+    @Value("${jwt.expiration:900000}")
+    private long maxTokenLifetimeMillis;
+
+    @Value("${jwt.refresh.expiration:1209600000}")
+    private long refreshTokenLifetimeMillis;
+
+    @Value("${jwt.blacklist.watermark-refresh-millis:5000}")
+    private long watermarkRefreshMillis;
+
+    @Value("${jwt.blacklist.circuit-breaker.failure-threshold:5}")
+    private int circuitFailureThreshold;
+
+    @Value("${jwt.blacklist.circuit-breaker.open-millis:10000}")
+    private long circuitOpenMillis;
+
+    @Value("${jwt.blacklist.local-cache.max-entries:10000}")
+    private int localCacheMaxEntries;
+
+    private volatile RevokedTokenBloomFilter bloomFilter;
+    private volatile RevokedTokenBloomFilter rebuildingBloomFilter;
+    private volatile boolean bloomReady;
+    private final AtomicLong staleRemovals = new AtomicLong();
+    private final AtomicLong bloomNegatives = new AtomicLong();
+    private final AtomicLong bloomPositives = new AtomicLong();
+    private volatile Map<String, Long> revocationWatermarks = Map.of();
+    private volatile long watermarksLoadedAt;
+    private final AtomicBoolean watermarksLoading = new AtomicBoolean();
+    // 회로 차단기의 OPEN 유지 시간 계산에 쓰는 시각
+    private LongSupplier clock = System::currentTimeMillis;
+    // 설정값은 configureFallback()에서 적용 (스프링 없이 생성한 경우 기본값 사용)
+    private volatile RedisCircuitBreaker circuitBreaker = new RedisCircuitBreaker(5, 10_000);
+    private volatile RecentlyRevokedTokenCache recentlyRevoked = new RecentlyRevokedTokenCache(10_000);
+    // 회로가 열린 동안 로컬에만 기록한 무효화 (토큰 ID → 만료 시각), 복구 후 Redis에 반영
+    private final Map<String, Long> pendingRevocations = new ConcurrentHashMap<>();
+    // Redis에 기록하지 못한 사용자 무효화 기준 시각, 다음 워터마크 재조회 때 다시 기록
+    private final Map<String, Long> pendingWatermarks = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushingPending = new AtomicBoolean();
+
+    /**
+     * 회로 차단기와 로컬 캐시에 설정값 적용
+     */
+    @PostConstruct
+    public void configureFallback() {
+        circuitBreaker = new RedisCircuitBreaker(circuitFailureThreshold, circuitOpenMillis, clock);
+        recentlyRevoked = new RecentlyRevokedTokenCache(localCacheMaxEntries);
+    }
+
     /**
      * 토큰을 블랙리스트에 추가
      * @param token JWT 토큰
      * @param expirationMillis 만료 시간 (밀리초)
      */
     public void blacklistToken(String token, long expirationMillis) {
+        blacklistToken(token, blacklistId(token), expirationMillis);
+    }
+
+    /**
+     * 검증된 토큰을 남은 유효 시간 동안 블랙리스트에 추가
+     * 서명 검증 때 얻은 jti와 만료 시각을 그대로 쓰므로 토큰을 다시 파싱하지 않는다.
+     * 이미 만료된 토큰은 추가하지 않는다.
+     * @param parsedToken 검증된 토큰 정보
+     */
+    public void blacklistToken(ParsedToken parsedToken) {
+        long remainingMillis = parsedToken.getRemainingMillis();
+        if (remainingMillis > 0) {
+            blacklistToken(parsedToken.getToken(), tokenId(parsedToken), remainingMillis);
+        }
+    }
+
+    private void blacklistToken(String token, String tokenId, long expirationMillis) {
         if (redisTemplate != null) {
+            long now = System.currentTimeMillis();
+            long expiresAt = now + expirationMillis;
+            recentlyRevoked.put(tokenId, expiresAt);
+
+            RedisCircuitBreaker breaker = circuitBreaker;
+            if (!breaker.allowRequest()) {
+                deferRevocation(tokenId, expiresAt);
+                logger.warn("⚠️ Redis 회로 차단 중 - 토큰을 로컬에만 기록하고 복구 후 반영합니다: {}",
+                        token.substring(0, Math.min(token.length(), 20)) + "...");
+                return;
+            }
+
             try {
-                String key = BLACKLIST_PREFIX + token;
-                redisTemplate.opsForValue().set(key, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
+                redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, BLACKLISTED, expirationMillis, TimeUnit.MILLISECONDS);
+                recordInBloomFilter(tokenId, expiresAt);
+
+                // 개수 인덱스 갱신 (만료된 항목은 함께 정리)
+                redisTemplate.opsForZSet().add(COUNT_INDEX_KEY, tokenId, expiresAt);
+                redisTemplate.opsForZSet().removeRangeByScore(COUNT_INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+                breaker.recordSuccess();
                 logger.info("✅ JWT 토큰 블랙리스트 추가: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
+                flushPendingRevocations();
             } catch (Exception e) {
-                logger.error("❌ JWT 토큰 블랙리스트 추가 실패: {}", e.getMessage());
+                breaker.recordFailure();
+                deferRevocation(tokenId, expiresAt);
+                logger.error("❌ JWT 토큰 블랙리스트 추가 실패 - 로컬에 기록하고 복구 후 반영합니다: {}", e.getMessage());
             }
         } else {
             logger.warn("⚠️ Redis가 설정되지 않아 블랙리스트 기능을 사용할 수 없습니다");
         }
     }
 
+    /**
+     * 검증된 토큰들을 블랙리스트에 일괄 추가
+     * PIPELINE_BATCH_SIZE 개씩 SET(TTL) 과 개수 인덱스 갱신을 파이프라인으로 묶어 보낸다.
+     * 이미 만료된 토큰은 건너뛴다.
+     * @param tokens 검증된 토큰 목록
+     * @return 블랙리스트에 추가한 토큰 개수
+     */
+    public long blacklistTokens(Collection<ParsedToken> tokens) {
+        if (redisTemplate == null) {
+            logger.warn("⚠️ Redis가 설정되지 않아 블랙리스트 기능을 사용할 수 없습니다");
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        List<ParsedToken> live = tokens.stream()
+                .filter(parsedToken -> parsedToken.getExpiration() != null
+                        && parsedToken.getExpiration().getTime() > now)
+                .toList();
+
+        for (ParsedToken parsedToken : live) {
+            recentlyRevoked.put(tokenId(parsedToken), parsedToken.getExpiration().getTime());
+        }
+
+        RedisCircuitBreaker breaker = circuitBreaker;
+        if (!breaker.allowRequest()) {
+            live.forEach(parsedToken -> deferRevocation(tokenId(parsedToken), parsedToken.getExpiration().getTime()));
+            logger.warn("⚠️ Redis 회로 차단 중 - 토큰 {} 개를 로컬에만 기록하고 복구 후 반영합니다", live.size());
+            return 0;
+        }
+
+        long written = 0;
+        try {
+            for (int from = 0; from < live.size(); from += PIPELINE_BATCH_SIZE) {
+                List<ParsedToken> chunk = live.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, live.size()));
+                writeBlacklistChunk(chunk, now);
+                written += chunk.size();
+            }
+            breaker.recordSuccess();
+            logger.info("✅ JWT 토큰 일괄 블랙리스트 추가: {} 개 (만료되어 제외: {} 개)",
+                    written, tokens.size() - live.size());
+            flushPendingRevocations();
+        } catch (Exception e) {
+            breaker.recordFailure();
+            live.subList((int) written, live.size())
+                    .forEach(parsedToken -> deferRevocation(tokenId(parsedToken), parsedToken.getExpiration().getTime()));
+            logger.error("❌ JWT 토큰 일괄 블랙리스트 추가 실패 ({} 개 추가 후): {}", written, e.getMessage());
+        }
+        return written;
+    }
+
+    private void deferRevocation(String tokenId, long expiresAt) {
+        // Bloom 필터 음성이면 로컬 기록을 보지 않고 통과시키므로 필터에도 먼저 기록한다
+        recordInBloomFilter(tokenId, expiresAt);
+        if (pendingRevocations.size() < recentlyRevoked.getMaxEntries()) {
+            pendingRevocations.put(tokenId, expiresAt);
+        } else {
+            logger.warn("⚠️ 복구 후 반영할 무효화 대기 목록이 가득 찼습니다 - 로컬 캐시에만 남깁니다");
+        }
+    }
+
+    /**
+     * 회로가 열린 동안 로컬에만 기록한 무효화를 Redis에 반영
+     * Redis 호출이 성공한 직후에 한 스레드만 실행한다.
+     */
+    private void flushPendingRevocations() {
+        if (pendingRevocations.isEmpty() || !flushingPending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            List<ParsedToken> pending = new ArrayList<>(pendingRevocations.size());
+            pendingRevocations.forEach((tokenId, expiresAt) -> {
+                if (expiresAt > now) {
+                    pending.add(new ParsedToken(null, tokenId, null, null, new Date(expiresAt)));
+                } else {
+                    pendingRevocations.remove(tokenId, expiresAt);
+                }
+            });
+
+            for (int from = 0; from < pending.size(); from += PIPELINE_BATCH_SIZE) {
+                List<ParsedToken> chunk = pending.subList(from, Math.min(from + PIPELINE_BATCH_SIZE, pending.size()));
+                writeBlacklistChunk(chunk, now);
+                chunk.forEach(parsedToken -> pendingRevocations.remove(parsedToken.getTokenId()));
+            }
+            if (!pending.isEmpty()) {
+                logger.info("✅ Redis 복구 - 차단 중 로컬에만 기록한 무효화 {} 개 반영", pending.size());
+            }
+        } catch (Exception e) {
+            circuitBreaker.recordFailure();
+            logger.error("❌ 대기 중인 무효화 반영 실패: {}", e.getMessage());
+        } finally {
+            flushingPending.set(false);
+        }
+    }
+
+    private void writeBlacklistChunk(List<ParsedToken> chunk, long now) {
+        List<String> tokenIds = new ArrayList<>(chunk.size());
+        Set<TypedTuple<String>> indexEntries = new HashSet<>(chunk.size() * 2);
+        for (ParsedToken parsedToken : chunk) {
+            String tokenId = tokenId(parsedToken);
+            tokenIds.add(tokenId);
+            indexEntries.add(TypedTuple.of(tokenId, (double) parsedToken.getExpiration().getTime()));
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> pipeline = (RedisOperations<String, String>) operations;
+                for (int i = 0; i < chunk.size(); i++) {
+                    long ttl = chunk.get(i).getExpiration().getTime() - now;
+                    pipeline.opsForValue().set(BLACKLIST_PREFIX + tokenIds.get(i), BLACKLISTED, ttl, TimeUnit.MILLISECONDS);
+                }
+                pipeline.opsForZSet().add(COUNT_INDEX_KEY, indexEntries);
+                pipeline.opsForZSet().removeRangeByScore(COUNT_INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+                return null;
+            }
+        });
+
+        for (int i = 0; i < chunk.size(); i++) {
+            recordInBloomFilter(tokenIds.get(i), chunk.get(i).getExpiration().getTime());
+        }
+    }
+
+    /**
+     * 사용자가 지정 시각 이전에 발급받은 모든 토큰을 무효화
+     * 토큰별 항목 대신 사용자별 기준 시각 하나만 기록한다 (액세스/리프레시 토큰 모두 적용).
+     * 기준 시각은 앞으로만 이동하며, 가장 긴 토큰 수명이 지나면 워터마크 재조회 때 정리된다.
+     * 로컬 스냅샷에는 먼저 반영하므로 Redis 기록이 실패해도 이 인스턴스에서는 바로 무효가 되고,
+     * 기록하지 못한 기준 시각은 다음 워터마크 재조회 때 다시 기록한다.
+     * @param username 사용자명
+     * @param issuedBeforeMillis 기준 시각 (epoch 밀리초), 이 시각 이전에 발급된 토큰이 무효
+     * @throws BlacklistUnavailableException Redis가 없거나 회로 차단 중이거나 기록에 실패한 경우
+     */
+    public synchronized void revokeTokensIssuedBefore(String username, long issuedBeforeMillis) {
+        if (redisTemplate == null) {
+            throw new BlacklistUnavailableException("Redis가 설정되지 않아 사용자 토큰을 무효화할 수 없습니다");
+        }
+
+        long watermark = Math.max(issuedBeforeMillis,
+                revocationWatermarks.getOrDefault(username, Long.MIN_VALUE));
+        applyLocalWatermark(username, watermark);
+
+        RedisCircuitBreaker breaker = circuitBreaker;
+        if (!breaker.allowRequest()) {
+            pendingWatermarks.merge(username, watermark, Math::max);
+            throw new BlacklistUnavailableException("Redis 회로 차단 중 - 사용자 무효화 기준 시각을 기록하지 못했습니다");
+        }
+
+        try {
+            watermark = Math.max(watermark,
+                    parseWatermark(redisTemplate.opsForHash().get(REVOKE_BEFORE_KEY, username)));
+            redisTemplate.opsForHash().put(REVOKE_BEFORE_KEY, username, String.valueOf(watermark));
+            redisTemplate.expire(REVOKE_BEFORE_KEY, watermarkRetentionMillis(), TimeUnit.MILLISECONDS);
+            breaker.recordSuccess();
+            applyLocalWatermark(username, watermark);
+            logger.info("✅ 사용자 토큰 일괄 무효화 - 사용자: {}, 기준 시각: {}", username, new Date(watermark));
+        } catch (Exception e) {
+            breaker.recordFailure();
+            pendingWatermarks.merge(username, watermark, Math::max);
+            logger.error("❌ 사용자 토큰 일괄 무효화 기록 실패 - 이 인스턴스에만 적용됨: {}", e.getMessage());
+            throw new BlacklistUnavailableException("사용자 무효화 기준 시각을 기록하지 못했습니다", e);
+        }
+    }
+
+    /**
+     * 사용자 무효화 기준 시각 이전(같은 시각 포함)에 발급된 토큰인지 확인
+     * 로컬 스냅샷으로 판정하며, 스냅샷은 watermark-refresh-millis 마다 Redis에서 다시 읽는다.
+     * 초 단위 iat만 있는 이전 토큰은 내림된 발급 시각으로 비교되므로 기준 시각과 같은 초에 발급된 토큰도 무효다.
+     * @param username 사용자명
+     * @param issuedAtMillis 토큰 발급 시각 (epoch 밀리초)
+     * @return 기준 시각 이전에 발급되었으면 true
+     */
+    public boolean isRevokedByWatermark(String username, long issuedAtMillis) {
+        Long watermark = currentWatermark(username);
+        return watermark != null && issuedAtMillis <= watermark;
+    }
+
+    private Long currentWatermark(String username) {
+        if (redisTemplate == null || username == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - watermarksLoadedAt >= watermarkRefreshMillis && watermarksLoading.compareAndSet(false, true)) {
+            try {
+                reloadWatermarks(now);
+            } finally {
+                watermarksLoading.set(false);
+            }
+        }
+        return revocationWatermarks.get(username);
+    }
+
+    private synchronized void applyLocalWatermark(String username, long watermark) {
+        Map<String, Long> snapshot = new HashMap<>(revocationWatermarks);
+        snapshot.merge(username, watermark, Math::max);
+        revocationWatermarks = snapshot;
+    }
+
+    private synchronized void reloadWatermarks(long now) {
+        // 실패해도 다음 주기까지는 다시 시도하지 않도록 먼저 갱신
+        watermarksLoadedAt = now;
+        RedisCircuitBreaker breaker = circuitBreaker;
+        if (!breaker.allowRequest()) {
+            return;
+        }
+        try {
+            long retention = watermarkRetentionMillis();
+            Map<Object, Object> stored = redisTemplate.opsForHash().entries(REVOKE_BEFORE_KEY);
+            Map<String, Long> snapshot = new HashMap<>(stored.size() * 2);
+            List<Object> expired = new ArrayList<>();
+            stored.forEach((user, value) -> {
+                long watermark = parseWatermark(value);
+                if (watermark <= now - retention) {
+                    // 기준 시각 이전에 발급된 토큰이 모두 만료된 사용자는 정리
+                    expired.add(user);
+                } else {
+                    snapshot.put(String.valueOf(user), watermark);
+                }
+            });
+            if (!expired.isEmpty()) {
+                redisTemplate.opsForHash().delete(REVOKE_BEFORE_KEY, expired.toArray());
+            }
+
+            // 기록에 실패했던 기준 시각을 다시 기록
+            for (Map.Entry<String, Long> pending : pendingWatermarks.entrySet()) {
+                long watermark = Math.max(pending.getValue(), snapshot.getOrDefault(pending.getKey(), Long.MIN_VALUE));
+                redisTemplate.opsForHash().put(REVOKE_BEFORE_KEY, pending.getKey(), String.valueOf(watermark));
+                redisTemplate.expire(REVOKE_BEFORE_KEY, retention, TimeUnit.MILLISECONDS);
+                pendingWatermarks.remove(pending.getKey(), pending.getValue());
+                snapshot.put(pending.getKey(), watermark);
+            }
+            // 재조회 중에 기록이 실패한 기준 시각도 잃지 않도록 남은 대기 항목을 합친다
+            pendingWatermarks.forEach((user, watermark) -> snapshot.merge(user, watermark, Math::max));
+            revocationWatermarks = snapshot;
+            breaker.recordSuccess();
+        } catch (Exception e) {
+            breaker.recordFailure();
+            logger.error("❌ 사용자 무효화 기준 시각 조회 실패 - 이전 값을 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    private long watermarkRetentionMillis() {
+        return Math.max(maxTokenLifetimeMillis, refreshTokenLifetimeMillis);
+    }
+
+    private static long parseWatermark(Object value) {
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
     /**
      * 토큰이 블랙리스트에 있는지 확인
      * @param token JWT 토큰
      * @return 블랙리스트 포함 여부
      */
     public boolean isBlacklisted(String token) {
+        return isBlacklisted(token, blacklistId(token));
+    }
+
+    /**
+     * 검증된 토큰이 블랙리스트에 있는지 확인
+     * 서명 검증 때 얻은 jti를 그대로 쓰므로 페이로드를 다시 읽지 않는다.
+     * 사용자 무효화 기준 시각 이전에 발급된 토큰도 블랙리스트로 본다.
+     * @param parsedToken 검증된 토큰 정보
+     * @return 블랙리스트 포함 여부
+     */
+    public boolean isBlacklisted(ParsedToken parsedToken) {
+        if (parsedToken.getIssuedAt() != null
+                && isRevokedByWatermark(parsedToken.getSubject(), parsedToken.getIssuedAt().getTime())) {
+            logger.debug("🚫 사용자 일괄 무효화 기준 이전에 발급된 토큰: {}", parsedToken.getSubject());
+            return true;
+        }
+        return isBlacklisted(parsedToken.getToken(), tokenId(parsedToken));
+    }
+
+    private boolean isBlacklisted(String token, String tokenId) {
         if (redisTemplate != null) {
+            // 이전 버전 인스턴스가 원문 키로 기록할 수 있는 동안에는 Bloom 필터를 신뢰하지 않는다
+            RevokedTokenBloomFilter filter = bloomFilter;
+            if (bloomReady && filter != null && !legacyKeyFallback) {
+                if (!filter.mightContain(tokenId, System.currentTimeMillis())) {
+                    bloomNegatives.incrementAndGet();
+                    return false;
+                }
+                bloomPositives.incrementAndGet();
+            }
+
+            // 회로가 열려 있으면 타임아웃을 기다리지 않고 로컬 기록으로 판정
+            RedisCircuitBreaker breaker = circuitBreaker;
+            if (!breaker.allowRequest()) {
+                return recentlyRevoked.contains(tokenId, System.currentTimeMillis());
+            }
+
             try {
-                String key = BLACKLIST_PREFIX + token;
-                Boolean exists = redisTemplate.hasKey(key);
-                boolean isBlacklisted = exists != null && exists;
+                boolean isBlacklisted;
+                if (legacyKeyFallback) {
+                    Long exists = redisTemplate.countExistingKeys(
+                            List.of(BLACKLIST_PREFIX + tokenId, BLACKLIST_PREFIX + token));
+                    isBlacklisted = exists != null && exists > 0;
+                } else {
+                    Boolean exists = redisTemplate.hasKey(BLACKLIST_PREFIX + tokenId);
+                    isBlacklisted = exists != null && exists;
+                }
+                breaker.recordSuccess();
+
+                // 아직 Redis에 반영되지 않은 무효화 포함
+                isBlacklisted = isBlacklisted || pendingRevocations.containsKey(tokenId);
+                flushPendingRevocations();
                 
                 if (isBlacklisted) {
                     logger.debug("🚫 블랙리스트에 포함된 토큰 발견: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
@@ -58,8 +529,9 @@ public class JwtBlacklistService {
                 
                 return isBlacklisted;
             } catch (Exception e) {
-                logger.error("❌ JWT 토큰 블랙리스트 확인 실패: {}", e.getMessage());
-                return false;
+                breaker.recordFailure();
+                logger.error("❌ JWT 토큰 블랙리스트 확인 실패 - 로컬 기록으로 판정합니다: {}", e.getMessage());
+                return recentlyRevoked.contains(tokenId, System.currentTimeMillis());
             }
         } else {
             // Redis가 없으면 블랙리스트 기능 비활성화
@@ -74,9 +546,21 @@ public class JwtBlacklistService {
     public void removeFromBlacklist(String token) {
         if (redisTemplate != null) {
             try {
-                String key = BLACKLIST_PREFIX + token;
-                redisTemplate.delete(key);
+                String tokenId = blacklistId(token);
+                recentlyRevoked.remove(tokenId);
+                pendingRevocations.remove(tokenId);
+                Boolean deleted = redisTemplate.delete(BLACKLIST_PREFIX + tokenId);
+                if (legacyKeyFallback && Boolean.TRUE.equals(redisTemplate.delete(BLACKLIST_PREFIX + token))) {
+                    deleted = true;
+                }
+                redisTemplate.opsForZSet().remove(COUNT_INDEX_KEY, tokenId);
                 logger.info("✅ JWT 토큰 블랙리스트에서 제거: {}", token.substring(0, Math.min(token.length(), 20)) + "...");
+
+                // Bloom 필터는 비트를 지울 수 없으므로 제거된 항목이 쌓이면 Redis 기준으로 다시 만든다
+                if (Boolean.TRUE.equals(deleted) && bloomEnabled
+                        && staleRemovals.incrementAndGet() >= bloomRebuildAfterRemovals) {
+                    rebuildBloomFilter();
+                }
             } catch (Exception e) {
                 logger.error("❌ JWT 토큰 블랙리스트 제거 실패: {}", e.getMessage());
             }
@@ -87,36 +571,62 @@ public class JwtBlacklistService {
 
     /**
      * 블랙리스트의 모든 토큰 제거 (관리자용)
+     * 사용자별 무효화 기준 시각은 남겨 두므로 일괄 무효화된 사용자의 이전 토큰은 계속 무효다.
+     * @return 삭제한 토큰 개수
      */
-    public void clearBlacklist() {
+    public long clearBlacklist() {
+        return clearBlacklist(false);
+    }
+
+    /**
+     * 블랙리스트의 모든 토큰 제거 (관리자용)
+     * SCAN 커서로 키를 나누어 읽고 배치 단위로 UNLINK 한다.
+     * @param includeUserWatermarks true면 사용자별 무효화 기준 시각(jwt:revoke-before)도 지워,
+     *                              일괄 무효화했던 사용자의 이전 토큰이 다시 유효해진다
+     * @return 삭제한 토큰 개수
+     */
+    public long clearBlacklist(boolean includeUserWatermarks) {
         if (redisTemplate != null) {
             try {
-                String pattern = BLACKLIST_PREFIX + "*";
-                var keys = redisTemplate.keys(pattern);
-                if (keys != null && !keys.isEmpty()) {
-                    redisTemplate.delete(keys);
-                    logger.info("✅ JWT 블랙리스트 전체 삭제 완료: {} 개 토큰", keys.size());
+                long cleared = scanBlacklistKeys(batch -> redisTemplate.unlink(batch));
+                redisTemplate.unlink(COUNT_INDEX_KEY);
+                if (includeUserWatermarks) {
+                    redisTemplate.unlink(REVOKE_BEFORE_KEY);
+                    revocationWatermarks = Map.of();
+                    pendingWatermarks.clear();
+                    logger.warn("⚠️ 사용자별 무효화 기준 시각도 삭제 - 일괄 무효화했던 토큰이 다시 유효해집니다");
+                }
+                recentlyRevoked.clear();
+                pendingRevocations.clear();
+
+                if (cleared > 0) {
+                    logger.info("✅ JWT 블랙리스트 전체 삭제 완료: {} 개 토큰", cleared);
                 } else {
                     logger.info("ℹ️ 삭제할 블랙리스트 토큰이 없습니다");
                 }
+                rebuildBloomFilter();
+                return cleared;
             } catch (Exception e) {
                 logger.error("❌ JWT 블랙리스트 전체 삭제 실패: {}", e.getMessage());
+                return 0;
             }
         } else {
             logger.warn("⚠️ Redis가 설정되지 않아 블랙리스트 기능을 사용할 수 없습니다");
+            return 0;
         }
     }
 
     /**
      * 블랙리스트 토큰 개수 조회
+     * 만료 시각 인덱스에서 아직 만료되지 않은 항목만 센다 (ZCOUNT, O(log N)).
      * @return 블랙리스트 토큰 개수
      */
     public long getBlacklistCount() {
         if (redisTemplate != null) {
             try {
-                String pattern = BLACKLIST_PREFIX + "*";
-                var keys = redisTemplate.keys(pattern);
-                return keys != null ? keys.size() : 0;
+                Long count = redisTemplate.opsForZSet().count(
+                        COUNT_INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+                return count != null ? count : 0;
             } catch (Exception e) {
                 logger.error("❌ JWT 블랙리스트 개수 조회 실패: {}", e.getMessage());
                 return 0;
@@ -125,4 +635,300 @@ public class JwtBlacklistService {
             return 0;
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 애플리케이션 시작 시 개수 인덱스를 보강하고 Bloom 필터를 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        migrateLegacyEntries();
+        backfillCountIndex();
+        rebuildBloomFilter();
+    }
+
+    /**
+     * 토큰 원문을 키로 쓰던 이전 항목을 토큰 ID 키로 옮김
+     * 남은 TTL을 그대로 유지하며, 개수 인덱스의 멤버도 함께 바꾼다.
+     * @return 옮긴 항목 개수
+     */
+    public long migrateLegacyEntries() {
+        if (redisTemplate == null) {
+            return 0;
+        }
+
+        AtomicLong migrated = new AtomicLong();
+        try {
+            scanBlacklistKeys(batch -> {
+                for (String key : batch) {
+                    String suffix = key.substring(BLACKLIST_PREFIX.length());
+                    if (!isRawToken(suffix)) {
+                        continue;
+                    }
+
+                    String tokenId = blacklistId(suffix);
+                    Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                    if (ttl != null && ttl != -2) {
+                        // -1(TTL 없음)은 토큰 최대 수명으로 제한한다
+                        long remaining = ttl > 0 ? ttl : maxTokenLifetimeMillis;
+                        redisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, BLACKLISTED, remaining, TimeUnit.MILLISECONDS);
+                        redisTemplate.opsForZSet().add(COUNT_INDEX_KEY, tokenId, System.currentTimeMillis() + remaining);
+                    }
+                    redisTemplate.unlink(key);
+                    redisTemplate.opsForZSet().remove(COUNT_INDEX_KEY, suffix);
+                    migrated.incrementAndGet();
+                }
+            });
+
+            if (migrated.get() > 0) {
+                logger.info("✅ JWT 블랙리스트 이전 키 변환 완료: {} 개 토큰", migrated.get());
+            }
+        } catch (Exception e) {
+            logger.error("❌ JWT 블랙리스트 이전 키 변환 실패: {}", e.getMessage());
+        }
+        return migrated.get();
+    }
+
+    /**
+     * 개수 인덱스가 없으면 기존 블랙리스트 키로 채움
+     * 인덱스 도입 이전에 저장된 항목용이며, 각 키의 남은 TTL로 만료 시각을 계산한다.
+     */
+    public void backfillCountIndex() {
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(COUNT_INDEX_KEY))) {
+                return;
+            }
+
+            long backfilled = scanBlacklistKeys(batch -> {
+                List<Long> expiries = expiryTimes(batch, false);
+                Set<TypedTuple<String>> tuples = new HashSet<>(batch.size() * 2);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (expiries.get(i) != null) {
+                        tuples.add(TypedTuple.of(keyToTokenId(batch.get(i)), (double) expiries.get(i)));
+                    }
+                }
+                if (!tuples.isEmpty()) {
+                    redisTemplate.opsForZSet().add(COUNT_INDEX_KEY, tuples);
+                }
+            });
+
+            if (backfilled > 0) {
+                logger.info("✅ JWT 블랙리스트 개수 인덱스 생성: {} 개 토큰", backfilled);
+            }
+        } catch (Exception e) {
+            logger.error("❌ JWT 블랙리스트 개수 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis의 블랙리스트 키로 Bloom 필터 재구성
+     * 재구성이 끝나기 전까지는 모든 조회가 Redis로 간다.
+     */
+    public synchronized void rebuildBloomFilter() {
+        if (!bloomEnabled || redisTemplate == null) {
+            return;
+        }
+
+        RevokedTokenBloomFilter fresh = new RevokedTokenBloomFilter(
+                TimeUnit.MINUTES.toMillis(bloomPartitionMinutes), bloomExpectedInsertions, bloomFalsePositiveRate);
+        // 스캔 도중 추가되는 토큰은 recordInBloomFilter가 새 필터에도 기록한다
+        rebuildingBloomFilter = fresh;
+        try {
+            // 토큰마다 실제 만료 시각의 구간에 넣어야 만료 전에 필터에서 빠지지 않는다
+            long loaded = scanBlacklistKeys(batch -> {
+                List<Long> expiries = expiryTimes(batch, true);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (expiries.get(i) != null) {
+                        fresh.put(keyToTokenId(batch.get(i)), expiries.get(i));
+                    }
+                }
+            });
+            // 아직 Redis에 반영하지 못한 무효화도 포함
+            pendingRevocations.forEach(fresh::put);
+
+            bloomFilter = fresh;
+            bloomReady = true;
+            staleRemovals.set(0);
+            logger.info("✅ JWT 블랙리스트 Bloom 필터 재구성 완료: {} 개 토큰", loaded);
+        } catch (Exception e) {
+            bloomReady = false;
+            logger.error("❌ JWT 블랙리스트 Bloom 필터 재구성 실패 - Redis 직접 조회로 동작합니다: {}", e.getMessage());
+        } finally {
+            rebuildingBloomFilter = null;
+        }
+    }
+
+    /**
+     * Bloom 필터 상태 조회
+     * @return Bloom 필터 통계
+     */
+    public Map<String, Object> getBloomFilterStats() {
+        Map<String, Object> stats = new HashMap<>();
+        RevokedTokenBloomFilter filter = bloomFilter;
+        stats.put("enabled", bloomEnabled);
+        stats.put("ready", bloomReady);
+        stats.put("partitions", filter != null ? filter.getPartitionCount() : 0);
+        stats.put("approximateCount", filter != null ? filter.getApproximateCount() : 0);
+        stats.put("staleRemovals", staleRemovals.get());
+        stats.put("localNegatives", bloomNegatives.get());
+        stats.put("redisLookups", bloomPositives.get());
+        return stats;
+    }
+
+    /**
+     * Redis 회로 차단기와 로컬 대체 기록 상태 조회
+     * @return 회로 차단기 통계 (상태 전이 횟수 포함)
+     */
+    public Map<String, Object> getCircuitBreakerStats() {
+        RedisCircuitBreaker breaker = circuitBreaker;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("state", breaker.getState().name());
+        stats.put("openTransitions", breaker.getOpenTransitions());
+        stats.put("halfOpenTransitions", breaker.getHalfOpenTransitions());
+        stats.put("closeTransitions", breaker.getCloseTransitions());
+        stats.put("rejectedCalls", breaker.getRejectedCalls());
+        stats.put("failedCalls", breaker.getFailedCalls());
+        stats.put("localRevokedTokens", recentlyRevoked.size());
+        stats.put("pendingRevocations", pendingRevocations.size());
+        stats.put("pendingWatermarks", pendingWatermarks.size());
+        return stats;
+    }
+
+    /**
+     * 사용자 무효화 기준 시각이 있는 사용자 수 (로컬 스냅샷 기준)
+     * @return 사용자 수
+     */
+    public int getRevokedUserCount() {
+        return revocationWatermarks.size();
+    }
+
+    /**
+     * 블랙리스트 키에 사용할 토큰 ID 계산
+     * jti가 있으면 그대로 쓰고, 없으면 토큰 SHA-256의 앞 16바이트를 사용한다.
+     * @param token JWT 토큰
+     * @return 토큰 ID
+     */
+    public String blacklistId(String token) {
+        String jti = jwtUtil.extractTokenId(token);
+        return jti != null ? jti : hashedId(token);
+    }
+
+    private static String tokenId(ParsedToken parsedToken) {
+        return parsedToken.getTokenId() != null ? parsedToken.getTokenId() : hashedId(parsedToken.getToken());
+    }
+
+    private static String hashedId(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HASHED_ID_PREFIX + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(digest, HASHED_ID_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String keyToTokenId(String key) {
+        String suffix = key.substring(BLACKLIST_PREFIX.length());
+        return isRawToken(suffix) ? blacklistId(suffix) : suffix;
+    }
+
+    private static boolean isRawToken(String value) {
+        // 토큰 원문(header.payload.signature)만 '.'을 포함한다
+        int first = value.indexOf('.');
+        return first > 0 && value.indexOf('.', first + 1) > first;
+    }
+
+    /**
+     * 블랙리스트 키들의 만료 시각 조회 (epoch 밀리초, 키 순서대로)
+     * 개수 인덱스의 점수를 먼저 쓰고, 인덱스에 없는 키만 남은 TTL을 파이프라인 한 번으로 읽어 계산한다.
+     * TTL이 없는 키는 Long.MAX_VALUE, 그 사이 사라진 키는 null
+     */
+    private List<Long> expiryTimes(List<String> keys, boolean useIndex) {
+        List<Double> scores = useIndex
+                ? redisTemplate.opsForZSet().score(COUNT_INDEX_KEY, keys.stream().map(this::keyToTokenId).toArray())
+                : null;
+        List<String> unindexed = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (scores == null || scores.get(i) == null) {
+                unindexed.add(keys.get(i));
+            }
+        }
+        long now = System.currentTimeMillis();
+        List<Object> ttls = unindexed.isEmpty() ? List.of() : redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> pipeline = (RedisOperations<String, String>) operations;
+                for (String key : unindexed) {
+                    pipeline.getExpire(key, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }
+        });
+
+        List<Long> expiries = new ArrayList<>(keys.size());
+        int next = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Double score = scores != null ? scores.get(i) : null;
+            if (score != null) {
+                expiries.add(score.longValue());
+                continue;
+            }
+            Long ttl = (Long) ttls.get(next++);
+            if (ttl == null || ttl == -2) {
+                expiries.add(null);
+            } else {
+                expiries.add(ttl < 0 ? Long.MAX_VALUE : now + ttl);
+            }
+        }
+        return expiries;
+    }
+
+    /**
+     * 블랙리스트 키를 SCAN 커서로 순회하며 배치 단위로 전달
+     * @param batchConsumer 키 배치 처리기
+     * @return 순회한 키 개수
+     */
+    private long scanBlacklistKeys(Consumer<List<String>> batchConsumer) {
+        long scanned = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*")
+                .count(SCAN_BATCH_SIZE)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    batchConsumer.accept(batch);
+                    scanned += batch.size();
+                    batch = new ArrayList<>(SCAN_BATCH_SIZE);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+            scanned += batch.size();
+        }
+        return scanned;
+    }
+
+    private void recordInBloomFilter(String tokenId, long expiresAtMillis) {
+        if (!bloomEnabled) {
+            return;
+        }
+        // 재구성 중인 필터를 먼저 읽어야 교체 직후의 추가가 누락되지 않는다
+        RevokedTokenBloomFilter rebuilding = rebuildingBloomFilter;
+        RevokedTokenBloomFilter current = bloomFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId, expiresAtMillis);
+        }
+        if (current != null && current != rebuilding) {
+            current.put(tokenId, expiresAtMillis);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.securityexam03.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 리프레시 토큰 저장소
+ *
+ * jwt:refresh:{해시}         → "계열ID:발급시각:만료시각:사용자명" (만료 시각까지 보관)
+ * jwt:refresh-used:{해시}    → 사용 표시 (SET NX 로 한 번만 성공)
+ * jwt:refresh-revoked:{계열} → 폐기된 계열 표시
+ *
+ * 모든 키에 TTL을 두므로 만료된 토큰은 Redis가 정리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "jwt:refresh:";
+    private static final String USED_PREFIX = "jwt:refresh-used:";
+    private static final String REVOKED_FAMILY_PREFIX = "jwt:refresh-revoked:";
+    private static final String MARKER = "1";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    public RedisRefreshTokenStore() {
+    }
+
+    RedisRefreshTokenStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(RefreshTokenEntry entry, long ttlMillis) {
+        // 사용자명에 ':'가 있을 수 있으므로 마지막에 둔다
+        String value = entry.getFamilyId() + ":" + entry.getIssuedAt() + ":" + entry.getExpiresAt()
+                + ":" + entry.getUsername();
+        redisTemplate.opsForValue().set(TOKEN_PREFIX + entry.getTokenHash(), value, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public RefreshTokenEntry find(String tokenHash) {
+        String value = redisTemplate.opsForValue().get(TOKEN_PREFIX + tokenHash);
+        if (value == null) {
+            return null;
+        }
+
+        String[] parts = value.split(":", 4);
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return new RefreshTokenEntry(tokenHash, parts[0], parts[3],
+                    Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash, long ttlMillis) {
+        Boolean first = redisTemplate.opsForValue()
+                .setIfAbsent(USED_PREFIX + tokenHash, MARKER, Math.max(ttlMillis, 1), TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(first);
+    }
+
+    @Override
+    public void revokeFamily(String familyId, long ttlMillis) {
+        redisTemplate.opsForValue().set(REVOKED_FAMILY_PREFIX + familyId, MARKER, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean isFamilyRevoked(String familyId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_FAMILY_PREFIX + familyId));
+    }
+}
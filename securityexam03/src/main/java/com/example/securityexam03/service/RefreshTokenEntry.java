@@ -0,0 +1,62 @@
+package com.example.securityexam03.service;
+
+/**
+ * 저장소에 보관하는 리프레시 토큰 정보
+ * 토큰 원문은 보관하지 않고 SHA-256 해시만 키로 사용한다.
+ */
+public final class RefreshTokenEntry {
+
+    private final String tokenHash;
+    private final String familyId;
+    private final String username;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    public RefreshTokenEntry(String tokenHash, String familyId, String username, long issuedAt, long expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.username = username;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 토큰 해시 (SHA-256, Base64url)
+     * @return 토큰 해시
+     */
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    /**
+     * 토큰 계열 ID (로그인 한 번에서 이어지는 회전 토큰들이 공유)
+     * @return 계열 ID
+     */
+    public String getFamilyId() {
+        return familyId;
+    }
+
+    /**
+     * 사용자명
+     * @return 사용자명
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * 발급 시각 (epoch 밀리초)
+     * @return 발급 시각
+     */
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    /**
+     * 만료 시각 (epoch 밀리초)
+     * @return 만료 시각
+     */
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.securityexam03.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import com.example.securityexam03.util.JwtUtil;
+
+/**
+ * 리프레시 토큰 발급 및 회전 서비스
+ *
+ * 액세스 토큰은 짧게(jwt.expiration) 발급하고, 리프레시 토큰으로 새 토큰 쌍을 받는다.
+ * 리프레시 토큰은 한 번 쓰면 새 토큰으로 교체(회전)되며, 저장소에는 SHA-256 해시만 남긴다.
+ * 이미 사용된 리프레시 토큰이 다시 오면 탈취로 보고 같은 로그인에서 이어진 토큰 계열 전체를 폐기한다.
+ *
+ * 로그아웃한 액세스 토큰은 남은 수명(최대 jwt.expiration)만큼만 블랙리스트에 있으면 되므로
+ * Redis 블랙리스트의 크기가 액세스 토큰 수명에 비례해 작게 유지된다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtBlacklistService jwtBlacklistService;
+
+    @Value("${jwt.refresh.expiration:1209600000}")
+    private long refreshExpiration; // 14일 (밀리초)
+
+    /**
+     * 로그인 시 새 토큰 계열로 토큰 쌍 발급
+     * @param username 사용자명
+     * @param roles 사용자 권한 목록
+     * @return 액세스 토큰과 리프레시 토큰
+     */
+    public TokenPair issue(String username, List<String> roles) {
+        return issue(username, roles, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 회전하여 새 토큰 쌍 발급
+     * 권한은 토큰이 아닌 사용자 저장소에서 다시 읽으므로 권한 변경이 다음 회전에 반영된다.
+     * @param refreshToken 리프레시 토큰 원문
+     * @return 새 액세스 토큰과 리프레시 토큰
+     * @throws InvalidRefreshTokenException 토큰이 없거나 만료, 폐기, 재사용된 경우
+     *         (관리자의 사용자 토큰 일괄 폐기 기준 시각 이전에 발급된 경우 포함)
+     */
+    public TokenPair rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new InvalidRefreshTokenException("리프레시 토큰이 제공되지 않았습니다", false);
+        }
+
+        String tokenHash = hash(refreshToken);
+        RefreshTokenEntry entry = refreshTokenStore.find(tokenHash);
+        long now = System.currentTimeMillis();
+        if (entry == null || entry.getExpiresAt() <= now) {
+            throw new InvalidRefreshTokenException("유효하지 않거나 만료된 리프레시 토큰입니다", false);
+        }
+        if (refreshTokenStore.isFamilyRevoked(entry.getFamilyId())) {
+            throw new InvalidRefreshTokenException("폐기된 리프레시 토큰입니다", false);
+        }
+        if (jwtBlacklistService.isRevokedByWatermark(entry.getUsername(), entry.getIssuedAt())) {
+            throw new InvalidRefreshTokenException("사용자의 토큰이 일괄 폐기되었습니다", false);
+        }
+
+        if (!refreshTokenStore.markUsed(tokenHash, entry.getExpiresAt() - now)) {
+            // 계열의 마지막 토큰은 최대 refreshExpiration 후에 만료되므로 그만큼 폐기 표시를 유지
+            refreshTokenStore.revokeFamily(entry.getFamilyId(), refreshExpiration);
+            logger.warn("🚫 리프레시 토큰 재사용 감지 - 사용자: {}, 토큰 계열 폐기", entry.getUsername());
+            throw new InvalidRefreshTokenException("이미 사용된 리프레시 토큰입니다", true);
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(entry.getUsername());
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        logger.info("✅ 리프레시 토큰 회전 - 사용자: {}", entry.getUsername());
+        return issue(entry.getUsername(), roles, entry.getFamilyId());
+    }
+
+    /**
+     * 리프레시 토큰이 속한 토큰 계열 폐기 (로그아웃)
+     * 다른 사용자의 리프레시 토큰으로 그 사용자를 로그아웃시키지 못하도록 소유자를 확인한다.
+     * @param refreshToken 리프레시 토큰 원문
+     * @param username 로그아웃하는 사용자 (액세스 토큰의 subject)
+     * @return 폐기했으면 true, 알 수 없는 토큰이거나 다른 사용자의 토큰이면 false
+     */
+    public boolean revoke(String refreshToken, String username) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return false;
+        }
+
+        RefreshTokenEntry entry = refreshTokenStore.find(hash(refreshToken));
+        if (entry == null) {
+            return false;
+        }
+        if (!entry.getUsername().equals(username)) {
+            logger.warn("🚫 다른 사용자의 리프레시 토큰 폐기 시도 - 요청자: {}, 소유자: {}", username, entry.getUsername());
+            return false;
+        }
+
+        refreshTokenStore.revokeFamily(entry.getFamilyId(), refreshExpiration);
+        logger.info("✅ 리프레시 토큰 계열 폐기 - 사용자: {}", entry.getUsername());
+        return true;
+    }
+
+    /**
+     * 리프레시 토큰 유효시간 조회 (밀리초)
+     * @return 리프레시 토큰 유효시간
+     */
+    public long getRefreshTokenValidityInMilliseconds() {
+        return refreshExpiration;
+    }
+
+    private TokenPair issue(String username, List<String> roles, String familyId) {
+        long now = System.currentTimeMillis();
+        String accessToken = jwtUtil.createToken(username, roles);
+        String refreshToken = newRefreshToken();
+
+        long refreshExpiresAt = now + refreshExpiration;
+        refreshTokenStore.save(new RefreshTokenEntry(hash(refreshToken), familyId, username, now, refreshExpiresAt),
+                refreshExpiration);
+
+        return new TokenPair(accessToken, new Date(now + jwtUtil.getTokenValidityInMilliseconds()),
+                refreshToken, new Date(refreshExpiresAt), username, roles);
+    }
+
+    private String newRefreshToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 리프레시 토큰 해시 (저장소 키)
+     * @param refreshToken 리프레시 토큰 원문
+     * @return SHA-256 해시 (Base64url)
+     */
+    static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.securityexam03.service;
+
+/**
+ * 리프레시 토큰 저장소
+ * 운영은 RedisRefreshTokenStore, 테스트나 단일 인스턴스 실행은 InMemoryRefreshTokenStore를 사용한다.
+ * (jwt.refresh.store: redis | memory)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 리프레시 토큰 저장
+     * @param entry 토큰 정보
+     * @param ttlMillis 보관 시간 (밀리초)
+     */
+    void save(RefreshTokenEntry entry, long ttlMillis);
+
+    /**
+     * 토큰 해시로 조회
+     * @param tokenHash 토큰 해시
+     * @return 토큰 정보, 없거나 만료되었으면 null
+     */
+    RefreshTokenEntry find(String tokenHash);
+
+    /**
+     * 토큰을 사용 처리 (원자적)
+     * @param tokenHash 토큰 해시
+     * @param ttlMillis 사용 표시 보관 시간 (밀리초)
+     * @return 처음 사용이면 true, 이미 사용된 토큰이면 false
+     */
+    boolean markUsed(String tokenHash, long ttlMillis);
+
+    /**
+     * 토큰 계열 전체 폐기
+     * @param familyId 계열 ID
+     * @param ttlMillis 폐기 표시 보관 시간 (밀리초)
+     */
+    void revokeFamily(String familyId, long ttlMillis);
+
+    /**
+     * 토큰 계열 폐기 여부
+     * @param familyId 계열 ID
+     * @return 폐기되었으면 true
+     */
+    boolean isFamilyRevoked(String familyId);
+}
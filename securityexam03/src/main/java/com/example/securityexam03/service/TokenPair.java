@@ -0,0 +1,51 @@
+package com.example.securityexam03.service;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 발급된 액세스 토큰과 리프레시 토큰
+ */
+public final class TokenPair {
+
+    private final String accessToken;
+    private final Date accessTokenExpiresAt;
+    private final String refreshToken;
+    private final Date refreshTokenExpiresAt;
+    private final String username;
+    private final List<String> roles;
+
+    public TokenPair(String accessToken, Date accessTokenExpiresAt, String refreshToken,
+                     Date refreshTokenExpiresAt, String username, List<String> roles) {
+        this.accessToken = accessToken;
+        this.accessTokenExpiresAt = accessTokenExpiresAt;
+        this.refreshToken = refreshToken;
+        this.refreshTokenExpiresAt = refreshTokenExpiresAt;
+        this.username = username;
+        this.roles = List.copyOf(roles);
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public Date getAccessTokenExpiresAt() {
+        return accessTokenExpiresAt;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public Date getRefreshTokenExpiresAt() {
+        return refreshTokenExpiresAt;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+}
@@ -3,40 +3,64 @@ package com.example.securityexam03.util;
 import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 
 /**
  * JWT 토큰 생성 및 검증을 위한 유틸리티 클래스
  * 내용.md 6.5절 기반으로 구현
+ *
+ * 서명 키와 JwtParser는 생성 시 한 번만 만들어 재사용한다 (둘 다 불변, 스레드 안전).
+ * 요청 처리 경로에서는 parseToken()으로 한 번 검증한 ParsedToken을 넘겨 쓰도록 한다.
  */
 @Component
 public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+
+    // iat는 초 단위이므로 사용자 일괄 무효화 기준 시각과 비교할 밀리초 단위 발급 시각을 따로 넣는다
+    static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
     
     @Value("${jwt.secret:your-secret-key-for-jwt-token-generation}")
     private String jwtSecret;
     
-    @Value("${jwt.expiration:3600000}")
-    private int jwtExpiration; // 1시간 (밀리초)
+    @Value("${jwt.expiration:900000}")
+    private int jwtExpiration; // 15분 (밀리초)
     
     private final String secretKey;
+
+    private final SecretKey signingKey;
+
+    private final JwtParser jwtParser;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
     
     public JwtUtil() {
         // 기본 시크릿 키 설정
         this.secretKey = Base64.getEncoder().encodeToString("your-secret-key-for-jwt-token-generation".getBytes());
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -52,14 +76,16 @@ public class JwtUtil {
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + jwtExpiration);
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now.getTime());
 
         String token = Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .setIssuer("securityexam03")
                 .setAudience("api.securityexam03.com")
-                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
         logger.info("✅ JWT 토큰 생성 완료 - 사용자: {}, 만료시간: {}", username, validity);
@@ -72,14 +98,22 @@ public class JwtUtil {
      * @return 토큰 유효성 여부
      */
     public boolean validateToken(String token) {
+        return parseToken(token) != null;
+    }
+
+    /**
+     * JWT 토큰을 한 번 검증하고 필요한 클레임을 추출
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보, 유효하지 않으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public ParsedToken parseToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(secretKey.getBytes())
-                .build()
-                .parseClaimsJws(token);
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             
             logger.debug("✅ JWT 토큰 검증 성공");
-            return true;
+            return new ParsedToken(token, claims.getId(), claims.getSubject(),
+                    (List<String>) claims.get("roles"), claims.getExpiration(), issuedAt(claims));
         } catch (ExpiredJwtException e) {
             logger.warn("❌ JWT 토큰 만료: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -91,7 +125,13 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             logger.warn("❌ JWT 토큰이 비어있음: {}", e.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    // 밀리초 발급 시각이 없는 이전 토큰은 초 단위 iat를 사용
+    private static Date issuedAt(Claims claims) {
+        Number issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Number.class);
+        return issuedAtMillis != null ? new Date(issuedAtMillis.longValue()) : claims.getIssuedAt();
     }
 
     /**
@@ -101,12 +141,7 @@ public class JwtUtil {
      */
     public String getUsername(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             return claims.getSubject();
         } catch (Exception e) {
             logger.error("❌ JWT 토큰에서 사용자명 추출 실패: {}", e.getMessage());
@@ -122,12 +157,7 @@ public class JwtUtil {
     @SuppressWarnings("unchecked")
     public List<String> getRoles(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             return (List<String>) claims.get("roles");
         } catch (Exception e) {
             logger.error("❌ JWT 토큰에서 권한 추출 실패: {}", e.getMessage());
@@ -142,12 +172,7 @@ public class JwtUtil {
      */
     public Date getExpirationDate(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey.getBytes())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
             return claims.getExpiration();
         } catch (Exception e) {
             logger.error("❌ JWT 토큰에서 만료시간 추출 실패: {}", e.getMessage());
@@ -155,6 +180,34 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * JWT 토큰 ID(jti) 추출 (서명 검증 없음)
+     * 블랙리스트 조회 키 계산용이며 인증 판단에는 사용하지 않는다.
+     * 위조된 토큰은 이후 서명 검증에서 걸러진다.
+     * @param token JWT 토큰
+     * @return 토큰 ID, 없으면 null
+     */
+    public String extractTokenId(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int first = token.indexOf('.');
+        int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+        if (second < 0) {
+            return null;
+        }
+
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+            JsonNode jti = objectMapper.readTree(payload).get("jti");
+            return jti != null && jti.isTextual() ? jti.asText() : null;
+        } catch (Exception e) {
+            logger.debug("❌ JWT 토큰 ID 추출 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * JWT 토큰 만료 여부 확인
      * @param token JWT 토큰
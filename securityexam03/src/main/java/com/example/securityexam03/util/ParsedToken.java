@@ -0,0 +1,88 @@
+package com.example.securityexam03.util;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증을 마친 JWT 토큰 정보
+ * 한 번의 검증 결과를 필터와 컨트롤러가 함께 사용하도록 필요한 클레임만 담는다.
+ */
+public final class ParsedToken {
+
+    private final String token;
+    private final String tokenId;
+    private final String subject;
+    private final List<String> roles;
+    private final Date expiration;
+    private final Date issuedAt;
+
+    public ParsedToken(String token, String tokenId, String subject, List<String> roles, Date expiration) {
+        this(token, tokenId, subject, roles, expiration, null);
+    }
+
+    public ParsedToken(String token, String tokenId, String subject, List<String> roles,
+                       Date expiration, Date issuedAt) {
+        this.token = token;
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.roles = roles != null ? List.copyOf(roles) : List.of();
+        this.expiration = expiration;
+        this.issuedAt = issuedAt;
+    }
+
+    /**
+     * 토큰 원문
+     * @return 토큰
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * 토큰 ID (jti), 이전 버전 토큰은 null
+     * @return 토큰 ID
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    /**
+     * 사용자명 (sub)
+     * @return 사용자명
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * 사용자 권한 목록
+     * @return 권한 목록 (불변)
+     */
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    /**
+     * 만료 시간
+     * @return 만료 시간
+     */
+    public Date getExpiration() {
+        return expiration;
+    }
+
+    /**
+     * 발급 시간 (밀리초 단위, iatMillis 클레임이 없는 이전 토큰은 초 단위 iat)
+     * @return 발급 시간, 없으면 null
+     */
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    /**
+     * 남은 유효 시간 (밀리초)
+     * @return 남은 시간, 이미 만료되었으면 0 이하
+     */
+    public long getRemainingMillis() {
+        return expiration != null ? expiration.getTime() - System.currentTimeMillis() : 0;
+    }
+}
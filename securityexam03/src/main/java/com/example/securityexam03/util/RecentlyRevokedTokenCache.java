@@ -0,0 +1,85 @@
+package com.example.securityexam03.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 무효화된 토큰 ID의 로컬 LRU 캐시
+ * Redis를 사용할 수 없을 때 블랙리스트 판정의 대체 수단으로 쓴다.
+ * 크기가 maxEntries 를 넘으면 가장 오래 사용되지 않은 항목부터 버리며, 만료된 항목은 조회 시 무시한다.
+ */
+public class RecentlyRevokedTokenCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Long> entries;
+
+    /**
+     * @param maxEntries 최대 항목 수
+     */
+    public RecentlyRevokedTokenCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > RecentlyRevokedTokenCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 무효화된 토큰 ID 기록
+     * @param tokenId 토큰 ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초)
+     */
+    public synchronized void put(String tokenId, long expiresAtMillis) {
+        entries.put(tokenId, expiresAtMillis);
+    }
+
+    /**
+     * 최근 무효화된 토큰인지 확인
+     * @param tokenId 토큰 ID
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 기록되어 있고 아직 만료되지 않았으면 true
+     */
+    public synchronized boolean contains(String tokenId, long nowMillis) {
+        Long expiresAt = entries.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= nowMillis) {
+            entries.remove(tokenId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 토큰 ID 제거
+     * @param tokenId 토큰 ID
+     */
+    public synchronized void remove(String tokenId) {
+        entries.remove(tokenId);
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 현재 항목 수
+     * @return 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.securityexam03.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Redis 호출용 회로 차단기
+ *
+ * - CLOSED: 모든 호출 허용. 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN: 호출을 즉시 거절 (Redis 타임아웃을 기다리지 않음). openDurationMillis 후 HALF_OPEN
+ * - HALF_OPEN: 시험 호출 하나만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * CLOSED 상태의 allowRequest()는 volatile 읽기 한 번이므로 요청 경로에 부담이 없다.
+ */
+public class RedisCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisCircuitBreaker.class);
+
+    /**
+     * 회로 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final LongSupplier clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final AtomicLong openTransitions = new AtomicLong();
+    private final AtomicLong halfOpenTransitions = new AtomicLong();
+    private final AtomicLong closeTransitions = new AtomicLong();
+    private final AtomicLong rejectedCalls = new AtomicLong();
+    private final AtomicLong failedCalls = new AtomicLong();
+
+    /**
+     * @param failureThreshold OPEN으로 바뀌는 연속 실패 횟수
+     * @param openDurationMillis OPEN 유지 시간 (밀리초)
+     */
+    public RedisCircuitBreaker(int failureThreshold, long openDurationMillis) {
+        this(failureThreshold, openDurationMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * @param failureThreshold OPEN으로 바뀌는 연속 실패 횟수
+     * @param openDurationMillis OPEN 유지 시간 (밀리초)
+     * @param clock 현재 시각 (밀리초)
+     */
+    public RedisCircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        if (openDurationMillis <= 0) {
+            throw new IllegalArgumentException("openDurationMillis must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부
+     * 허용된 호출은 반드시 recordSuccess() 또는 recordFailure()로 결과를 알려야 한다.
+     * @return 허용이면 true, 차단이면 false
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && clock.getAsLong() - openedAt >= openDurationMillis
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            halfOpenTransitions.incrementAndGet();
+            logger.info("ℹ️ Redis 회로 차단기 HALF_OPEN - 시험 호출로 복구 여부 확인");
+            return true;
+        }
+        // OPEN 유지 중이거나, HALF_OPEN에서 다른 시험 호출이 진행 중
+        rejectedCalls.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 호출 성공 기록
+     */
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            closeTransitions.incrementAndGet();
+            logger.info("✅ Redis 회로 차단기 CLOSED - Redis 호출 재개");
+        }
+    }
+
+    /**
+     * 호출 실패 기록
+     */
+    public void recordFailure() {
+        failedCalls.incrementAndGet();
+        if (state.get() == State.HALF_OPEN) {
+            if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+                open();
+            }
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold
+                && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt = clock.getAsLong();
+        consecutiveFailures.set(0);
+        openTransitions.incrementAndGet();
+        logger.warn("⚠️ Redis 회로 차단기 OPEN - {} ms 동안 Redis 호출을 건너뜁니다", openDurationMillis);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getOpenTransitions() {
+        return openTransitions.get();
+    }
+
+    public long getHalfOpenTransitions() {
+        return halfOpenTransitions.get();
+    }
+
+    public long getCloseTransitions() {
+        return closeTransitions.get();
+    }
+
+    public long getRejectedCalls() {
+        return rejectedCalls.get();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.get();
+    }
+}
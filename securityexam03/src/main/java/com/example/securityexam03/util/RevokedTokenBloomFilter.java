@@ -0,0 +1,198 @@
+package com.example.securityexam03.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 무효화된 토큰 ID를 위한 시간 분할 Bloom 필터
+ *
+ * 토큰의 만료 시각이 속한 시간 구간(partition)마다 별도의 비트 배열을 두고,
+ * 구간이 끝나면 해당 비트 배열을 통째로 버린다. 블랙리스트 항목은 토큰 만료와 함께
+ * Redis TTL로 사라지므로, 필터도 같은 주기로 비워져 거짓 양성 비율이 일정하게 유지된다.
+ *
+ * - mightContain() == false 이면 "확실히 무효화되지 않음" (Redis 조회 불필요)
+ * - mightContain() == true 이면 "무효화되었을 수 있음" (Redis로 확인 필요)
+ *
+ * Bloom 필터는 삭제를 지원하지 않으므로 블랙리스트에서 제거된 토큰은 해당 구간이
+ * 만료될 때까지 양성으로 남는다. 이 경우에도 Redis가 최종 판정을 하므로 결과는 정확하다.
+ */
+public class RevokedTokenBloomFilter {
+
+    private final long partitionMillis;
+    private final int bitsPerPartition;
+    private final int hashFunctions;
+
+    private final ConcurrentSkipListMap<Long, Partition> partitions = new ConcurrentSkipListMap<>();
+
+    /**
+     * @param partitionMillis 구간 길이 (밀리초)
+     * @param expectedInsertionsPerPartition 구간당 예상 무효화 토큰 수
+     * @param falsePositiveRate 목표 거짓 양성 비율 (0~1)
+     */
+    public RevokedTokenBloomFilter(long partitionMillis, int expectedInsertionsPerPartition,
+                                   double falsePositiveRate) {
+        if (partitionMillis <= 0) {
+            throw new IllegalArgumentException("partitionMillis must be positive");
+        }
+        if (expectedInsertionsPerPartition <= 0) {
+            throw new IllegalArgumentException("expectedInsertionsPerPartition must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        this.partitionMillis = partitionMillis;
+
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertionsPerPartition * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitsPerPartition = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitsPerPartition / expectedInsertionsPerPartition * ln2));
+    }
+
+    /**
+     * 토큰 ID 추가
+     * @param tokenId 토큰 ID
+     * @param expiresAtMillis 토큰 만료 시각 (epoch 밀리초)
+     */
+    public void put(String tokenId, long expiresAtMillis) {
+        long bucket = Math.floorDiv(expiresAtMillis, partitionMillis);
+        Partition partition = partitions.computeIfAbsent(bucket, b -> new Partition(bitsPerPartition));
+
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            partition.set(index(h1, h2, i));
+        }
+        partition.insertions.incrementAndGet();
+    }
+
+    /**
+     * 토큰 ID 포함 가능성 확인
+     * @param tokenId 토큰 ID
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return false 이면 확실히 포함되지 않음
+     */
+    public boolean mightContain(String tokenId, long nowMillis) {
+        evictExpired(nowMillis);
+        if (partitions.isEmpty()) {
+            return false;
+        }
+
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (Partition partition : partitions.values()) {
+            if (partition.containsAll(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 만료된 구간 제거
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     */
+    public void evictExpired(long nowMillis) {
+        // 구간 b 는 [b * partitionMillis, (b + 1) * partitionMillis) 에 만료되는 토큰을 담는다
+        long currentBucket = Math.floorDiv(nowMillis, partitionMillis);
+        Map.Entry<Long, Partition> oldest;
+        while ((oldest = partitions.firstEntry()) != null && oldest.getKey() < currentBucket) {
+            partitions.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * 살아있는 구간 수
+     * @return 구간 수
+     */
+    public int getPartitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * 누적 추가 건수 (살아있는 구간 기준, 중복 포함)
+     * @return 추가 건수
+     */
+    public long getApproximateCount() {
+        long count = 0;
+        for (Partition partition : partitions.values()) {
+            count += partition.insertions.get();
+        }
+        return count;
+    }
+
+    /**
+     * 구간당 비트 수
+     * @return 비트 수
+     */
+    public int getBitsPerPartition() {
+        return bitsPerPartition;
+    }
+
+    /**
+     * 해시 함수 개수
+     * @return 해시 함수 개수
+     */
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private int index(int h1, int h2, int i) {
+        // Kirsch-Mitzenmacher 이중 해싱
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitsPerPartition;
+    }
+
+    private static long hash64(String value) {
+        // FNV-1a 64비트 + murmur3 fmix64 로 비트를 고르게 섞는다
+        long h = 0xcbf29ce484222325L;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private final class Partition {
+
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong();
+
+        private Partition(int bits) {
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+
+        private void set(int bitIndex) {
+            int wordIndex = bitIndex >>> 6;
+            long mask = 1L << bitIndex;
+            long current;
+            do {
+                current = words.get(wordIndex);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(wordIndex, current, current | mask));
+        }
+
+        private boolean containsAll(int h1, int h2) {
+            for (int i = 0; i < hashFunctions; i++) {
+                int bitIndex = index(h1, h2, i);
+                if ((words.get(bitIndex >>> 6) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
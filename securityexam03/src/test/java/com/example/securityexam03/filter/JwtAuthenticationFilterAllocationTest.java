@@ -0,0 +1,104 @@
+package com.example.securityexam03.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.service.CustomUserDetailsService;
+import com.example.securityexam03.service.JwtBlacklistService;
+import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
+
+/**
+ * 클레임 기반 인증 모드 할당량 테스트
+ * 스레드별 할당 바이트(com.sun.management.ThreadMXBean)로 인증 정보 구성 단계의 요청당 할당량을 비교한다.
+ */
+class JwtAuthenticationFilterAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsOnlyModeBuildsPrincipalFromClaims() {
+        JwtAuthenticationFilter filter = newFilter(true);
+        ParsedToken parsedToken = parsedToken("jwt_admin", List.of("ROLE_ADMIN", "ROLE_USER"));
+
+        filter.authenticate(parsedToken, new MockHttpServletRequest());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+        assertThat(((UserDetails) authentication.getPrincipal()).getUsername()).isEqualTo("jwt_admin");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN", "ROLE_USER");
+    }
+
+    @Test
+    void authoritiesAreSharedPerRoleSet() {
+        GrantedAuthorityCache cache = new GrantedAuthorityCache();
+
+        var first = cache.forRoles(List.of("ROLE_ADMIN", "ROLE_USER"));
+        var second = cache.forRoles(List.of("ROLE_ADMIN", "ROLE_USER"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.forRoles(List.of("ROLE_USER"))).isNotSameAs(first);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void claimsOnlyModeAllocatesLessPerRequest() {
+        ParsedToken parsedToken = parsedToken("jwt_admin", List.of("ROLE_ADMIN", "ROLE_USER"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/me");
+
+        long userDetailsBytes = bytesPerRequest(newFilter(false), parsedToken, request);
+        long claimsOnlyBytes = bytesPerRequest(newFilter(true), parsedToken, request);
+
+        // 주체 + 인증 토큰(권한 목록 복사 포함) + 요청 상세 + SecurityContext 정도만 남아야 한다
+        assertThat(claimsOnlyBytes).isLessThan(userDetailsBytes / 2);
+        assertThat(claimsOnlyBytes).isLessThan(512);
+    }
+
+    private static long bytesPerRequest(JwtAuthenticationFilter filter, ParsedToken parsedToken,
+                                        MockHttpServletRequest request) {
+        for (int i = 0; i < WARMUP; i++) {
+            filter.authenticate(parsedToken, request);
+            SecurityContextHolder.clearContext();
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            filter.authenticate(parsedToken, request);
+            SecurityContextHolder.clearContext();
+        }
+        return (allocatedBytes() - before) / ITERATIONS;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private JwtAuthenticationFilter newFilter(boolean claimsOnly) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 3600000);
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, new JwtBlacklistService(), claimsOnly);
+    }
+
+    private static ParsedToken parsedToken(String username, List<String> roles) {
+        return new ParsedToken("token", "jti", username, roles, null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.securityexam03.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 공개 경로 매처 테스트
+ */
+class PublicPathMatcherTest {
+
+    private final PublicPathMatcher defaults = new PublicPathMatcher(PublicPathMatcher.DEFAULT_PATTERNS);
+
+    @Test
+    void defaultPatternsKeepPreviousFilterBypassRules() {
+        assertThat(defaults.matches("/api/auth/login")).isTrue();
+        assertThat(defaults.matches("/api/auth/refresh")).isTrue();
+        assertThat(defaults.matches("/api/info")).isTrue();
+        assertThat(defaults.matches("/actuator/health")).isTrue();
+        assertThat(defaults.matches("/static/app/main.js")).isTrue();
+        assertThat(defaults.matches("/images/logo.png")).isTrue();
+
+        assertThat(defaults.matches("/api/auth/me")).isFalse();
+        assertThat(defaults.matches("/api/auth/login/extra")).isFalse();
+        assertThat(defaults.matches("/api/admin/blacklist/stats")).isFalse();
+        assertThat(defaults.matches("/cssx/a.css")).isFalse();
+        assertThat(defaults.matches("")).isFalse();
+    }
+
+    @Test
+    void singleSegmentWildcardAndFallbackPatterns() {
+        PublicPathMatcher matcher = new PublicPathMatcher(List.of(
+                "/api/v1/*/public", "/docs/*", "/files/*.png", "/users/{id}/avatar"));
+
+        assertThat(matcher.matches("/api/v1/products/public")).isTrue();
+        assertThat(matcher.matches("/api/v1/products/private")).isFalse();
+        assertThat(matcher.matches("/docs/intro")).isTrue();
+        assertThat(matcher.matches("/docs/intro/more")).isFalse();
+        assertThat(matcher.matches("/files/logo.png")).isTrue();
+        assertThat(matcher.matches("/files/logo.gif")).isFalse();
+        assertThat(matcher.matches("/users/42/avatar")).isTrue();
+        assertThat(matcher.getRuleCount()).isEqualTo(4);
+    }
+
+    @Test
+    void agreesWithPathPatternForTrieRules() {
+        List<String> patterns = List.of("/a/**", "/b/*/c", "/d", "/e/*", "/f/g/**");
+        PublicPathMatcher matcher = new PublicPathMatcher(patterns);
+        PathPatternParser parser = new PathPatternParser();
+        List<String> paths = List.of("/a", "/a/", "/a/x/y", "/ab", "/b/x/c", "/b/x/y/c",
+                "/d", "/d/", "/e/x", "/e/x/y", "/f/g", "/f/g/h", "/f/h", "/x");
+
+        for (String path : paths) {
+            boolean expected = patterns.stream()
+                    .anyMatch(p -> parser.parse(p).matches(PathContainer.parsePath(path)));
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void rejectsInvalidRules() {
+        assertThatThrownBy(() -> new PublicPathMatcher(List.of("api/info")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PublicPathMatcher(List.of("/a/{id")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.securityexam03.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 사용자 목록 로딩 테스트
+ * 미리 계산한 해시는 시작 시 인코딩하지 않는지, 저장된 해시가 비밀번호와 일치하는지 확인한다.
+ */
+class CustomUserDetailsServiceTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    @Test
+    void precomputedHashesMatchSamplePasswords() {
+        CustomUserDetailsService service = new CustomUserDetailsService();
+
+        assertThat(service.getAllTestUsers()).hasSize(5);
+        assertThat(encoder.matches("admin123", service.loadUserByUsername("jwt_admin").getPassword())).isTrue();
+        assertThat(encoder.matches("password", service.loadUserByUsername("user1").getPassword())).isTrue();
+        assertThat(service.getUserRoles("admin")).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThatThrownBy(() -> service.loadUserByUsername("nobody")).isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void plaintextEntriesAreEncodedWithConfiguredStrength() {
+        CustomUserDetailsService service =
+                new CustomUserDetailsService(new ClassPathResource("users-test.json"), new BCryptPasswordEncoder(4));
+
+        String hash = service.loadUserByUsername("jwt_admin").getPassword();
+
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("admin123", hash)).isTrue();
+        assertThat(service.getAllTestUsers())
+                .filteredOn(user -> user.username.equals("jwt_admin"))
+                .extracting(user -> user.plainPassword)
+                .containsExactly("admin123");
+    }
+
+    @Test
+    void precomputedHashesAreNotEncodedAtStartup() {
+        BCryptPasswordEncoder spyEncoder = spy(new BCryptPasswordEncoder(4));
+
+        CustomUserDetailsService service = new CustomUserDetailsService(new ClassPathResource("users.json"), spyEncoder);
+        service.awaitPasswordEncoding();
+
+        verify(spyEncoder, never()).encode(any());
+        assertThat(service.getAllTestUsers()).allSatisfy(user -> assertThat(
+                encoder.matches(user.plainPassword, service.loadUserByUsername(user.username).getPassword())).isTrue());
+    }
+
+    @Test
+    void plaintextEntriesAreEncodedOncePerUser() {
+        BCryptPasswordEncoder spyEncoder = spy(new BCryptPasswordEncoder(4));
+
+        CustomUserDetailsService service =
+                new CustomUserDetailsService(new ClassPathResource("users-test.json"), spyEncoder);
+
+        assertThat(service.getAllTestUsers()).allSatisfy(user -> assertThat(
+                encoder.matches(user.plainPassword, service.loadUserByUsername(user.username).getPassword())).isTrue());
+        verify(spyEncoder, times(5)).encode(any());
+    }
+}
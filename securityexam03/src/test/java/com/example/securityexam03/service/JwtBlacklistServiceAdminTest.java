@@ -0,0 +1,69 @@
+package com.example.securityexam03.service;
+
+import static com.example.securityexam03.support.BlacklistServiceBuilder.blacklistService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.securityexam03.support.FakeRedis;
+
+/**
+ * 블랙리스트 관리 기능 테스트
+ * 개수 조회와 전체 삭제가 KEYS 없이 동작하는지 확인한다.
+ */
+class JwtBlacklistServiceAdminTest {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    void countComesFromExpiryIndex() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).build();
+
+        for (int i = 0; i < 1_200; i++) {
+            service.blacklistToken("token-" + i, HOUR_MILLIS);
+        }
+        service.removeFromBlacklist("token-0");
+        // 이미 만료된 항목은 세지 않는다
+        redis.sortedSet("jwt:blacklist-index").put("expired", (double) (System.currentTimeMillis() - 1_000));
+
+        assertThat(service.getBlacklistCount()).isEqualTo(1_199);
+        verify(redis.template(), never()).keys(anyString());
+    }
+
+    @Test
+    void clearUsesScanAndUnlinkInBatches() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).build();
+        for (int i = 0; i < 1_200; i++) {
+            service.blacklistToken("token-" + i, HOUR_MILLIS);
+        }
+
+        long cleared = service.clearBlacklist();
+
+        assertThat(cleared).isEqualTo(1_200);
+        assertThat(redis.store()).isEmpty();
+        assertThat(service.getBlacklistCount()).isZero();
+        verify(redis.template(), never()).keys(anyString());
+    }
+
+    @Test
+    void backfillIndexesLegacyEntries() {
+        FakeRedis redis = new FakeRedis(0);
+        for (int i = 0; i < 700; i++) {
+            redis.store().put("jwt:blacklist:legacy-" + i, "blacklisted");
+        }
+        JwtBlacklistService service = blacklistService(redis).build();
+
+        service.backfillCountIndex();
+
+        // HASKEY + SCAN + 500개 배치마다 TTL 파이프라인과 ZADD 한 번씩 (키마다 TTL을 따로 읽지 않는다)
+        assertThat(redis.roundTripCount()).isEqualTo(2 + 2 * 2);
+        assertThat(service.getBlacklistCount()).isEqualTo(700);
+    }
+}
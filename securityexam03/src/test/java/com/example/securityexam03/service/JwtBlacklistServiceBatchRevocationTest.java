@@ -0,0 +1,187 @@
+package com.example.securityexam03.service;
+
+import static com.example.securityexam03.support.BlacklistServiceBuilder.blacklistService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.support.FakeRedis;
+import com.example.securityexam03.util.ParsedToken;
+
+/**
+ * 일괄 무효화 테스트
+ * 파이프라인 기록의 왕복 수와 사용자별 기준 시각(워터마크) 판정을 확인한다.
+ */
+class JwtBlacklistServiceBatchRevocationTest {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final String PREFIX = "jwt:blacklist:";
+    private static final String INDEX_KEY = "jwt:blacklist-index";
+
+    private FakeRedis redis;
+    private JwtBlacklistService service;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FakeRedis(0);
+        service = blacklistService(redis).build();
+    }
+
+    @Test
+    void batchIsWrittenInOneRoundTripPerChunk() {
+        List<ParsedToken> tokens = tokens("jwt_user", 1_200, System.currentTimeMillis() + HOUR_MILLIS);
+        tokens.add(new ParsedToken("expired", "expired-jti", "jwt_user", List.of(),
+                new Date(System.currentTimeMillis() - 1_000)));
+
+        long blacklisted = service.blacklistTokens(tokens);
+
+        assertThat(blacklisted).isEqualTo(1_200);
+        // 500개씩 3번 (SET 1,200 + 청크마다 ZADD, ZREMRANGEBYSCORE)
+        assertThat(redis.roundTripCount()).isEqualTo(3);
+        assertThat(redis.commandCount()).isEqualTo(1_200 + 3 * 2);
+        assertThat(redis.store()).hasSize(1_200).doesNotContainKey(PREFIX + "expired-jti");
+        assertThat(redis.sortedSet(INDEX_KEY)).hasSize(1_200);
+        assertThat(service.getBlacklistCount()).isEqualTo(1_200);
+        assertThat(tokens.subList(0, 1_200)).allMatch(service::isBlacklisted);
+    }
+
+    @Test
+    void batchRevocationNeedsOneRoundTripInsteadOfOnePerToken() {
+        List<ParsedToken> tokens = tokens("jwt_user", 1_000, System.currentTimeMillis() + HOUR_MILLIS);
+
+        for (ParsedToken token : tokens.subList(0, 500)) {
+            service.blacklistToken(token.getToken(), HOUR_MILLIS);
+        }
+        long sequentialRoundTrips = redis.roundTripCount();
+
+        service.blacklistTokens(tokens.subList(500, 1_000));
+        long pipelinedRoundTrips = redis.roundTripCount() - sequentialRoundTrips;
+
+        assertThat(sequentialRoundTrips).isGreaterThanOrEqualTo(500);
+        assertThat(pipelinedRoundTrips).isEqualTo(1);
+    }
+
+    @Test
+    void watermarkRevokesOlderTokensOfOneUserWithoutPerTokenEntries() {
+        long now = System.currentTimeMillis();
+        ParsedToken before = token("jwt_user", "before", now - 60_000);
+        ParsedToken after = token("jwt_user", "after", now + 2_000);
+        ParsedToken otherUser = token("jwt_admin", "other", now - 60_000);
+
+        service.revokeTokensIssuedBefore("jwt_user", now);
+
+        assertThat(service.isBlacklisted(before)).isTrue();
+        assertThat(service.isBlacklisted(after)).isFalse();
+        assertThat(service.isBlacklisted(otherUser)).isFalse();
+        assertThat(redis.store()).isEmpty();
+        assertThat(redis.hash("jwt:revoke-before")).containsOnlyKeys("jwt_user");
+        assertThat(service.getRevokedUserCount()).isEqualTo(1);
+
+        // 기준 시각은 뒤로 가지 않는다
+        service.revokeTokensIssuedBefore("jwt_user", now - 120_000);
+        assertThat(service.isBlacklisted(before)).isTrue();
+    }
+
+    @Test
+    void watermarkWrittenByAnotherInstanceIsPickedUpAfterRefreshInterval() {
+        long now = System.currentTimeMillis();
+        ParsedToken token = token("jwt_user", "jti", now - 60_000);
+        ReflectionTestUtils.setField(service, "watermarkRefreshMillis", HOUR_MILLIS);
+        assertThat(service.isBlacklisted(token)).isFalse();
+
+        redis.hash("jwt:revoke-before").put("jwt_user", String.valueOf(now));
+        assertThat(service.isBlacklisted(token)).isFalse();
+        // 주기 내에는 기준 시각을 다시 읽지 않는다
+        verify(redis.template().opsForHash(), times(1)).entries(anyString());
+
+        ReflectionTestUtils.setField(service, "watermarkRefreshMillis", 0L);
+        assertThat(service.isBlacklisted(token)).isTrue();
+    }
+
+    @Test
+    void watermarkIsComparedAtMillisecondPrecisionAndInclusive() {
+        long revokedAt = System.currentTimeMillis() / 1000 * 1000 + 400;
+        ParsedToken mintedJustBefore = token("jwt_user", "before", revokedAt - 100);
+        ParsedToken mintedAtWatermark = token("jwt_user", "at", revokedAt);
+        ParsedToken reissuedJustAfter = token("jwt_user", "after", revokedAt + 100);
+        // iatMillis 클레임이 없는 이전 토큰은 초 단위로 내림된 발급 시각을 갖는다
+        ParsedToken legacySameSecond = token("jwt_user", "legacy", revokedAt / 1000 * 1000);
+
+        service.revokeTokensIssuedBefore("jwt_user", revokedAt);
+
+        assertThat(service.isBlacklisted(mintedJustBefore)).isTrue();
+        assertThat(service.isBlacklisted(mintedAtWatermark)).isTrue();
+        assertThat(service.isBlacklisted(reissuedJustAfter)).isFalse();
+        assertThat(service.isBlacklisted(legacySameSecond)).isTrue();
+    }
+
+    @Test
+    void failedWatermarkWriteIsReportedAppliedLocallyAndRetried() {
+        long now = System.currentTimeMillis();
+        ParsedToken before = token("jwt_user", "before", now - 60_000);
+        redis.outage(10);
+
+        assertThatThrownBy(() -> service.revokeTokensIssuedBefore("jwt_user", now))
+                .isInstanceOf(BlacklistUnavailableException.class);
+        assertThat(service.isBlacklisted(before)).isTrue();
+        assertThat(service.getCircuitBreakerStats()).containsEntry("pendingWatermarks", 1);
+
+        redis.recover();
+        assertThat(service.isBlacklisted(before)).isTrue();
+        assertThat(redis.hash("jwt:revoke-before")).containsEntry("jwt_user", String.valueOf(now));
+        assertThat(service.getCircuitBreakerStats()).containsEntry("pendingWatermarks", 0);
+    }
+
+    @Test
+    void revocationReadsOnlyTheUsersOwnWatermark() {
+        redis.hash("jwt:revoke-before").put("jwt_admin", String.valueOf(System.currentTimeMillis()));
+
+        service.revokeTokensIssuedBefore("jwt_user", System.currentTimeMillis());
+
+        verify(redis.template().opsForHash(), never()).entries(anyString());
+        verify(redis.template().opsForHash()).get("jwt:revoke-before", "jwt_user");
+    }
+
+    @Test
+    void clearKeepsWatermarksUnlessAskedExplicitly() {
+        long now = System.currentTimeMillis();
+        ParsedToken before = token("jwt_user", "before", now - 60_000);
+        service.revokeTokensIssuedBefore("jwt_user", now);
+
+        service.clearBlacklist();
+
+        assertThat(redis.hash("jwt:revoke-before")).containsOnlyKeys("jwt_user");
+        assertThat(service.isBlacklisted(before)).isTrue();
+
+        service.clearBlacklist(true);
+
+        assertThat(redis.hash("jwt:revoke-before")).isEmpty();
+        assertThat(service.getRevokedUserCount()).isZero();
+        assertThat(service.isBlacklisted(before)).isFalse();
+    }
+
+    private static List<ParsedToken> tokens(String username, int count, long expiresAt) {
+        List<ParsedToken> tokens = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            tokens.add(new ParsedToken("token-" + i, "jti-" + i, username, List.of("ROLE_USER"), new Date(expiresAt)));
+        }
+        return tokens;
+    }
+
+    private static ParsedToken token(String username, String tokenId, long issuedAt) {
+        return new ParsedToken("token-" + tokenId, tokenId, username, List.of("ROLE_USER"),
+                new Date(issuedAt + HOUR_MILLIS), new Date(issuedAt));
+    }
+}
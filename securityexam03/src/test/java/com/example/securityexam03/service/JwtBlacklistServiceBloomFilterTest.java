@@ -0,0 +1,149 @@
+package com.example.securityexam03.service;
+
+import static com.example.securityexam03.support.BlacklistServiceBuilder.blacklistService;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.support.BlacklistServiceBuilder;
+import com.example.securityexam03.support.FakeRedis;
+import com.example.securityexam03.util.RevokedTokenBloomFilter;
+
+/**
+ * 블랙리스트 Bloom 필터 동작 테스트
+ * 실제 Redis 대신 FakeRedis를 사용하고, Redis 호출 여부는 명령 수로 확인한다.
+ */
+class JwtBlacklistServiceBloomFilterTest {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    @Test
+    void revokedTokensAreAlwaysDetected() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).bloomFilter().build();
+        service.rebuildBloomFilter();
+
+        List<String> revoked = tokens(1_000);
+        revoked.forEach(token -> service.blacklistToken(token, HOUR_MILLIS));
+
+        // Bloom 필터에는 거짓 음성이 없어야 한다
+        assertThat(revoked).allMatch(service::isBlacklisted);
+        assertThat(tokens(1_000)).noneMatch(service::isBlacklisted);
+    }
+
+    @Test
+    void rebuildLoadsExistingEntriesAtStartup() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).bloomFilter().build();
+        List<String> revoked = tokens(100);
+        revoked.forEach(token -> redis.store().put("jwt:blacklist:" + service.blacklistId(token), "blacklisted"));
+
+        service.rebuildBloomFilter();
+
+        assertThat(revoked).allMatch(service::isBlacklisted);
+        assertThat(service.getBloomFilterStats()).containsEntry("ready", true);
+        assertThat(service.getBloomFilterStats()).containsEntry("approximateCount", 100L);
+    }
+
+    @Test
+    void removedTokenFallsThroughToRedis() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).bloomFilter().build();
+        service.rebuildBloomFilter();
+
+        String token = tokens(1).get(0);
+        service.blacklistToken(token, HOUR_MILLIS);
+        assertThat(service.isBlacklisted(token)).isTrue();
+
+        service.removeFromBlacklist(token);
+        assertThat(service.isBlacklisted(token)).isFalse();
+    }
+
+    @Test
+    void clearBlacklistResetsFilter() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).bloomFilter().build();
+        service.rebuildBloomFilter();
+        tokens(10).forEach(token -> service.blacklistToken(token, HOUR_MILLIS));
+
+        service.clearBlacklist();
+
+        assertThat(service.getBloomFilterStats()).containsEntry("approximateCount", 0L);
+    }
+
+    @Test
+    void expiredPartitionsAreDropped() {
+        RevokedTokenBloomFilter filter = new RevokedTokenBloomFilter(TimeUnit.MINUTES.toMillis(15), 1_000, 0.001);
+        long now = System.currentTimeMillis();
+        filter.put("short-lived", now + TimeUnit.MINUTES.toMillis(5));
+        filter.put("long-lived", now + TimeUnit.MINUTES.toMillis(50));
+
+        assertThat(filter.mightContain("short-lived", now)).isTrue();
+        assertThat(filter.mightContain("short-lived", now + TimeUnit.MINUTES.toMillis(30))).isFalse();
+        assertThat(filter.mightContain("long-lived", now + TimeUnit.MINUTES.toMillis(30))).isTrue();
+    }
+
+    @Test
+    void rebuildPartitionsEntriesByTheirOwnExpiry() {
+        FakeRedis redis = new FakeRedis(0);
+        JwtBlacklistService service = blacklistService(redis).bloomFilter()
+                .maxTokenLifetime(TimeUnit.MINUTES.toMillis(15)).build();
+        long now = System.currentTimeMillis();
+
+        // 최대 수명이 줄기 전에 1시간 수명으로 무효화된 토큰 (인덱스 점수 사용)
+        String indexed = tokens(1).get(0);
+        service.blacklistToken(indexed, HOUR_MILLIS);
+        // 인덱스에 없는 이전 항목은 남은 TTL 사용
+        String legacyId = service.blacklistId(tokens(1).get(0));
+        redis.store().put("jwt:blacklist:" + legacyId, "blacklisted");
+        redis.expiresAt().put("jwt:blacklist:" + legacyId, now + HOUR_MILLIS);
+
+        service.rebuildBloomFilter();
+
+        RevokedTokenBloomFilter filter =
+                (RevokedTokenBloomFilter) ReflectionTestUtils.getField(service, "bloomFilter");
+        long afterMaxLifetime = now + TimeUnit.MINUTES.toMillis(40);
+        assertThat(filter.mightContain(service.blacklistId(indexed), afterMaxLifetime)).isTrue();
+        assertThat(filter.mightContain(legacyId, afterMaxLifetime)).isTrue();
+    }
+
+    @Test
+    void bloomFilterSkipsRedisForTokensThatWereNeverRevoked() {
+        List<String> revoked = tokens(10_000);
+        List<String> lookups = tokens(20_000);
+
+        long withoutBloom = redisCommandsPerLookups(revoked, lookups, false);
+        long withBloom = redisCommandsPerLookups(revoked, lookups, true);
+
+        // 필터가 없으면 조회마다 한 번, 있으면 오탐(0.1%)일 때만 Redis를 호출한다
+        assertThat(withoutBloom).isEqualTo(lookups.size());
+        assertThat(withBloom).isLessThan(lookups.size() / 100);
+    }
+
+    private static long redisCommandsPerLookups(List<String> revoked, List<String> lookups, boolean bloomEnabled) {
+        FakeRedis redis = new FakeRedis(0);
+        BlacklistServiceBuilder builder = blacklistService(redis);
+        JwtBlacklistService service = (bloomEnabled ? builder.bloomFilter() : builder).build();
+        revoked.forEach(token -> redis.store().put("jwt:blacklist:" + service.blacklistId(token), "blacklisted"));
+        service.rebuildBloomFilter();
+
+        long before = redis.commandCount();
+        assertThat(lookups).noneMatch(service::isBlacklisted);
+        return redis.commandCount() - before;
+    }
+
+    private static List<String> tokens(int count) {
+        // 실제 JWT 길이와 비슷한 임의 문자열
+        List<String> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tokens.add("eyJhbGciOiJIUzI1NiJ9." + UUID.randomUUID() + UUID.randomUUID() + "." + UUID.randomUUID());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.securityexam03.service;
+
+import static com.example.securityexam03.support.BlacklistServiceBuilder.blacklistService;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.securityexam03.support.FakeRedis;
+import com.example.securityexam03.util.ParsedToken;
+
+/**
+ * Redis 장애 시 블랙리스트 동작 테스트
+ * 회로가 열린 뒤에는 Redis를 호출하지 않고 로컬 기록으로 판정하는지 확인한다.
+ * OPEN 유지 시간은 실제로 기다리지 않고 시각을 옮겨 확인한다.
+ */
+class JwtBlacklistServiceCircuitBreakerTest {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long REDIS_TIMEOUT_MILLIS = 50;
+    private static final long OPEN_MILLIS = 200;
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    private FakeRedis redis;
+    private JwtBlacklistService service;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FakeRedis(0);
+        service = blacklistService(redis).circuitBreaker(5, OPEN_MILLIS).localCacheMaxEntries(1_000)
+                .clock(clock::get).build();
+    }
+
+    @Test
+    void outageStopsAddingLatencyAfterCircuitOpens() {
+        service.blacklistToken("revoked-before-outage", HOUR_MILLIS);
+        redis.outage(REDIS_TIMEOUT_MILLIS);
+
+        long commandsBeforeOutage = redis.commandCount();
+        for (int i = 0; i < 200; i++) {
+            assertThat(service.isBlacklisted("active-" + i)).isFalse();
+        }
+
+        // 회로가 열리기 전 5번만 Redis를 호출해 타임아웃을 기다린다
+        assertThat(redis.commandCount() - commandsBeforeOutage).isEqualTo(5);
+        assertThat(service.isBlacklisted("revoked-before-outage")).isTrue();
+
+        Map<String, Object> stats = service.getCircuitBreakerStats();
+        assertThat(stats).containsEntry("state", "OPEN")
+                .containsEntry("openTransitions", 1L)
+                .containsEntry("failedCalls", 5L)
+                .containsEntry("rejectedCalls", 196L);
+    }
+
+    @Test
+    void revocationsDuringOutageReachRedisAfterRecovery() {
+        redis.outage(REDIS_TIMEOUT_MILLIS);
+        for (int i = 0; i < 5; i++) {
+            service.isBlacklisted("active-" + i);
+        }
+
+        service.blacklistToken("revoked-during-outage", HOUR_MILLIS);
+        assertThat(service.isBlacklisted("revoked-during-outage")).isTrue();
+        assertThat(service.getCircuitBreakerStats()).containsEntry("pendingRevocations", 1);
+
+        redis.recover();
+        clock.addAndGet(OPEN_MILLIS - 1);
+        assertThat(service.isBlacklisted("active-0")).isFalse();
+        assertThat(service.getCircuitBreakerStats()).containsEntry("state", "OPEN");
+        clock.incrementAndGet();
+
+        // HALF_OPEN 시험 호출이 성공하면 닫히고, 대기 중인 무효화가 Redis에 반영된다
+        assertThat(service.isBlacklisted("active-0")).isFalse();
+        assertThat(redis.store()).containsKey("jwt:blacklist:" + service.blacklistId("revoked-during-outage"));
+        assertThat(service.isBlacklisted("revoked-during-outage")).isTrue();
+
+        Map<String, Object> stats = service.getCircuitBreakerStats();
+        assertThat(stats).containsEntry("state", "CLOSED")
+                .containsEntry("openTransitions", 1L)
+                .containsEntry("halfOpenTransitions", 1L)
+                .containsEntry("closeTransitions", 1L)
+                .containsEntry("pendingRevocations", 0);
+    }
+
+    @Test
+    void revocationsDuringOutageAreDetectedWithBloomFilterEnabled() {
+        service = blacklistService(redis).bloomFilter().circuitBreaker(5, OPEN_MILLIS).localCacheMaxEntries(1_000)
+                .clock(clock::get).build();
+        service.rebuildBloomFilter();
+        redis.outage(REDIS_TIMEOUT_MILLIS);
+
+        // 처음 5번은 타임아웃으로 실패하고, 회로가 열린 뒤에는 Redis를 호출하지 않는다
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            revoked.add("revoked-during-outage-" + i);
+            service.blacklistToken(revoked.get(i), HOUR_MILLIS);
+        }
+        List<ParsedToken> batch = List.of(
+                new ParsedToken("batch-token", "batch-jti", "jwt_user", List.of("ROLE_USER"),
+                        new Date(System.currentTimeMillis() + HOUR_MILLIS)));
+        service.blacklistTokens(batch);
+
+        assertThat(service.getCircuitBreakerStats()).containsEntry("state", "OPEN");
+        assertThat(revoked).allMatch(service::isBlacklisted);
+        assertThat(service.isBlacklisted(batch.get(0))).isTrue();
+        assertThat(service.isBlacklisted("active")).isFalse();
+    }
+}
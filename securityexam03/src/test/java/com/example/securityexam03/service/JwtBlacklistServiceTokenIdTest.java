@@ -0,0 +1,198 @@
+package com.example.securityexam03.service;
+
+import static com.example.securityexam03.support.BlacklistServiceBuilder.blacklistService;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.support.FakeRedis;
+import com.example.securityexam03.util.JwtUtil;
+import com.example.securityexam03.util.ParsedToken;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 토큰 ID(jti) 기반 블랙리스트 키 테스트
+ * 이전 키 변환과 100만 건 기준 메모리 사용량 비교를 포함한다.
+ */
+class JwtBlacklistServiceTokenIdTest {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final String PREFIX = "jwt:blacklist:";
+    private static final String INDEX_KEY = "jwt:blacklist-index";
+
+    private FakeRedis redis;
+    private JwtUtil jwtUtil;
+    private JwtBlacklistService service;
+
+    @BeforeEach
+    void setUp() {
+        redis = new FakeRedis(0);
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", (int) HOUR_MILLIS);
+
+        service = blacklistService(redis).jwtUtil(jwtUtil).build();
+    }
+
+    @Test
+    void tokensAreKeyedByJti() {
+        String token = jwtUtil.createToken("jwt_user", List.of("ROLE_USER"));
+        String jti = jwtUtil.extractTokenId(token);
+
+        service.blacklistToken(token, HOUR_MILLIS);
+
+        assertThat(jti).isNotBlank();
+        assertThat(redis.store()).containsOnlyKeys(PREFIX + jti);
+        assertThat(redis.sortedSet(INDEX_KEY)).containsOnlyKeys(jti);
+        assertThat(service.isBlacklisted(token)).isTrue();
+    }
+
+    @Test
+    void parsedTokenIsBlacklistedForItsRemainingLifetime() {
+        ParsedToken parsedToken = jwtUtil.parseToken(jwtUtil.createToken("jwt_user", List.of("ROLE_USER")));
+
+        service.blacklistToken(parsedToken);
+
+        String key = PREFIX + parsedToken.getTokenId();
+        long expiresAt = parsedToken.getExpiration().getTime();
+        assertThat(redis.store()).containsOnlyKeys(key);
+        assertThat(redis.expiresAt().get(key)).isBetween(expiresAt - 1_000, expiresAt + 1_000);
+        assertThat(service.isBlacklisted(parsedToken)).isTrue();
+    }
+
+    @Test
+    void expiredParsedTokenIsNotStored() {
+        ParsedToken expired = new ParsedToken("expired", "expired-jti", "jwt_user", List.of(),
+                new Date(System.currentTimeMillis() - 1_000));
+
+        service.blacklistToken(expired);
+
+        assertThat(redis.store()).isEmpty();
+    }
+
+    @Test
+    void legacyTokensAreKeyedByHashPrefix() {
+        String legacyToken = legacyToken("jwt_user");
+
+        service.blacklistToken(legacyToken, HOUR_MILLIS);
+
+        String key = redis.store().keySet().iterator().next();
+        // "h:" + SHA-256 앞 16바이트의 Base64url(22자)
+        assertThat(key).startsWith(PREFIX + "h:").hasSize(PREFIX.length() + 2 + 22);
+        assertThat(service.isBlacklisted(legacyToken)).isTrue();
+        assertThat(service.isBlacklisted(legacyToken("jwt_admin"))).isFalse();
+    }
+
+    @Test
+    void migrateMovesRawTokenKeysKeepingTtl() {
+        String token = jwtUtil.createToken("jwt_user", List.of("ROLE_USER"));
+        String legacyToken = legacyToken("jwt_admin");
+        long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10);
+        for (String raw : List.of(token, legacyToken)) {
+            redis.store().put(PREFIX + raw, "blacklisted");
+            redis.expiresAt().put(PREFIX + raw, expiresAt);
+            redis.sortedSet(INDEX_KEY).put(raw, (double) expiresAt);
+        }
+
+        long migrated = service.migrateLegacyEntries();
+
+        assertThat(migrated).isEqualTo(2);
+        assertThat(redis.store().keySet()).noneMatch(key -> key.contains("."));
+        assertThat(redis.sortedSet(INDEX_KEY).keySet()).noneMatch(member -> member.contains("."));
+        assertThat(redis.expiresAt().get(PREFIX + jwtUtil.extractTokenId(token))).isBetween(expiresAt - 1_000, expiresAt + 1_000);
+        assertThat(service.isBlacklisted(token)).isTrue();
+        assertThat(service.isBlacklisted(legacyToken)).isTrue();
+        assertThat(service.getBlacklistCount()).isEqualTo(2);
+    }
+
+    @Test
+    void legacyFallbackFindsEntriesWrittenByOlderInstances() {
+        service = blacklistService(redis).jwtUtil(jwtUtil).legacyKeyFallback().build();
+        String token = jwtUtil.createToken("jwt_user", List.of("ROLE_USER"));
+        redis.store().put(PREFIX + token, "blacklisted");
+
+        assertThat(service.isBlacklisted(token)).isTrue();
+    }
+
+    @Test
+    void shortKeysNeedLessThanHalfTheMemoryAtOneMillionEntries() {
+        int samples = 200;
+        List<String> tokens = new ArrayList<>(samples);
+        List<String> legacyTokens = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            tokens.add(jwtUtil.createToken("jwt_admin", List.of("ROLE_ADMIN", "ROLE_USER")));
+            legacyTokens.add(legacyToken("jwt_admin"));
+        }
+
+        long rawKeyBytes = 0;
+        long jtiKeyBytes = 0;
+        long hashedKeyBytes = 0;
+        for (int i = 0; i < samples; i++) {
+            rawKeyBytes += estimateEntryBytes(legacyTokens.get(i));
+            jtiKeyBytes += estimateEntryBytes(service.blacklistId(tokens.get(i)));
+            hashedKeyBytes += estimateEntryBytes(service.blacklistId(legacyTokens.get(i)));
+        }
+
+        long entries = 1_000_000;
+        double rawMb = rawKeyBytes / (double) samples * entries / (1024 * 1024);
+        double jtiMb = jtiKeyBytes / (double) samples * entries / (1024 * 1024);
+        double hashedMb = hashedKeyBytes / (double) samples * entries / (1024 * 1024);
+        assertThat(jtiMb).isLessThan(rawMb / 2);
+        assertThat(hashedMb).isLessThan(rawMb / 2);
+    }
+
+    /**
+     * Redis 항목 하나의 대략적인 메모리 사용량 (jemalloc 크기 등급 기준)
+     * 문자열 키 + 값 + 만료 사전 항목 + 개수 인덱스(정렬 집합) 멤버를 더한다.
+     */
+    private static long estimateEntryBytes(String tokenId) {
+        int keyLength = (PREFIX + tokenId).getBytes(StandardCharsets.UTF_8).length;
+        int memberLength = tokenId.getBytes(StandardCharsets.UTF_8).length;
+
+        long dictEntry = 24;
+        long keySds = allocation(3 + keyLength + 1);
+        long value = allocation(16 + 3 + "blacklisted".length() + 1);
+        long expiresEntry = 24;
+        long indexMember = allocation(3 + memberLength + 1) + 64 + dictEntry;
+        return dictEntry + keySds + value + expiresEntry + indexMember;
+    }
+
+    private static long allocation(int size) {
+        if (size <= 128) {
+            return (size + 15) / 16 * 16;
+        }
+        if (size <= 256) {
+            return (size + 31) / 32 * 32;
+        }
+        if (size <= 512) {
+            return (size + 63) / 64 * 64;
+        }
+        return (size + 127) / 128 * 128;
+    }
+
+    private static String legacyToken(String username) {
+        // jti 도입 이전 JwtUtil.createToken과 같은 클레임 구성 (토큰마다 달라지도록 nonce만 추가)
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(username)
+                .claim("roles", List.of("ROLE_ADMIN", "ROLE_USER"))
+                .claim("tokenType", "ACCESS_TOKEN")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + HOUR_MILLIS))
+                .setIssuer("securityexam03")
+                .setAudience("api.securityexam03.com")
+                .claim("nonce", System.nanoTime())
+                .signWith(Keys.hmacShaKeyFor("legacy-secret-key-for-jwt-token-generation".getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
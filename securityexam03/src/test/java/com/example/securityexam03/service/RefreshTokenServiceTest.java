@@ -0,0 +1,136 @@
+package com.example.securityexam03.service;
+
+import static com.example.securityexam03.support.BlacklistServiceBuilder.blacklistService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.support.FakeRedis;
+import com.example.securityexam03.util.JwtUtil;
+
+/**
+ * 리프레시 토큰 회전 / 재사용 감지 테스트 (메모리 저장소)
+ */
+class RefreshTokenServiceTest {
+
+    private static final long REFRESH_EXPIRATION = 60_000;
+
+    private final CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+    private InMemoryRefreshTokenStore store;
+    private JwtUtil jwtUtil;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore();
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 900000);
+        service = newService(store);
+    }
+
+    @Test
+    void rotationIssuesNewPairAndStoresOnlyHashes() {
+        TokenPair login = service.issue("jwt_user", List.of("ROLE_USER"));
+
+        TokenPair rotated = service.rotate(login.getRefreshToken());
+
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(jwtUtil.parseToken(rotated.getAccessToken()).getSubject()).isEqualTo("jwt_user");
+        assertThat(rotated.getRoles()).containsExactly("ROLE_USER");
+        assertThat(store.find(login.getRefreshToken())).isNull();
+        assertThat(store.find(RefreshTokenService.hash(rotated.getRefreshToken())).getFamilyId())
+                .isEqualTo(store.find(RefreshTokenService.hash(login.getRefreshToken())).getFamilyId());
+    }
+
+    @Test
+    void reusedTokenRevokesWholeFamily() {
+        TokenPair login = service.issue("jwt_user", List.of("ROLE_USER"));
+        TokenPair rotated = service.rotate(login.getRefreshToken());
+
+        assertThatThrownBy(() -> service.rotate(login.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .matches(e -> ((InvalidRefreshTokenException) e).isReuseDetected());
+
+        // 정상 사용자가 가진 최신 토큰도 함께 폐기된다
+        assertThatThrownBy(() -> service.rotate(rotated.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .matches(e -> !((InvalidRefreshTokenException) e).isReuseDetected());
+
+        // 다른 로그인의 토큰 계열은 영향받지 않는다
+        TokenPair otherLogin = service.issue("jwt_user", List.of("ROLE_USER"));
+        assertThat(service.rotate(otherLogin.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void unknownExpiredAndRevokedTokensAreRejected() {
+        assertThatThrownBy(() -> service.rotate("unknown"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        assertThatThrownBy(() -> service.rotate(null))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        long now = System.currentTimeMillis();
+        store.save(new RefreshTokenEntry(RefreshTokenService.hash("expired"), "family", "jwt_user",
+                now - REFRESH_EXPIRATION - 1, now - 1), REFRESH_EXPIRATION);
+        assertThatThrownBy(() -> service.rotate("expired"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+
+        TokenPair login = service.issue("jwt_user", List.of("ROLE_USER"));
+        assertThat(service.revoke(login.getRefreshToken(), "jwt_user")).isTrue();
+        assertThatThrownBy(() -> service.rotate(login.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @Test
+    void revokeIgnoresRefreshTokensOfOtherUsers() {
+        TokenPair login = service.issue("jwt_user", List.of("ROLE_USER"));
+
+        assertThat(service.revoke(login.getRefreshToken(), "jwt_admin")).isFalse();
+        assertThat(service.rotate(login.getRefreshToken()).getRefreshToken()).isNotBlank();
+    }
+
+    @Test
+    void redisStoreKeepsHashesWithTtl() {
+        FakeRedis redis = new FakeRedis(0);
+        RefreshTokenService redisService = newService(new RedisRefreshTokenStore(redis.template()));
+
+        TokenPair login = redisService.issue("jwt_admin", List.of("ROLE_ADMIN", "ROLE_USER"));
+        String key = "jwt:refresh:" + RefreshTokenService.hash(login.getRefreshToken());
+
+        assertThat(redis.store()).containsKey(key);
+        assertThat(redis.store().values()).noneMatch(value -> value.contains(login.getRefreshToken()));
+        assertThat(redis.expiresAt()).containsKey(key);
+
+        redisService.rotate(login.getRefreshToken());
+        assertThatThrownBy(() -> redisService.rotate(login.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class)
+                .matches(e -> ((InvalidRefreshTokenException) e).isReuseDetected());
+    }
+
+    @Test
+    void userWatermarkBlocksRotationOfOlderRefreshTokens() {
+        JwtBlacklistService blacklistService = blacklistService(new FakeRedis(0))
+                .refreshTokenLifetime(REFRESH_EXPIRATION).build();
+        ReflectionTestUtils.setField(service, "jwtBlacklistService", blacklistService);
+        TokenPair login = service.issue("jwt_user", List.of("ROLE_USER"));
+
+        blacklistService.revokeTokensIssuedBefore("jwt_user", System.currentTimeMillis());
+
+        assertThatThrownBy(() -> service.rotate(login.getRefreshToken()))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    private RefreshTokenService newService(RefreshTokenStore refreshTokenStore) {
+        RefreshTokenService refreshTokenService = new RefreshTokenService();
+        ReflectionTestUtils.setField(refreshTokenService, "refreshTokenStore", refreshTokenStore);
+        ReflectionTestUtils.setField(refreshTokenService, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(refreshTokenService, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(refreshTokenService, "jwtBlacklistService", new JwtBlacklistService());
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", REFRESH_EXPIRATION);
+        return refreshTokenService;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.securityexam03.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.securityexam03.service.JwtBlacklistService;
+import com.example.securityexam03.util.JwtUtil;
+
+/**
+ * 테스트용 JwtBlacklistService 생성기
+ * 스프링 컨텍스트 없이 @Value 설정 필드를 채우고 FakeRedis를 연결한다.
+ * 기본값은 Bloom 필터 꺼짐, 토큰/리프레시 토큰 최대 수명 1시간, 워터마크는 확인할 때마다 다시 읽기.
+ */
+public final class BlacklistServiceBuilder {
+
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final FakeRedis redis;
+    private JwtUtil jwtUtil = new JwtUtil();
+    private boolean bloomEnabled;
+    private long bloomPartitionMinutes = 15;
+    private int bloomExpectedInsertions = 100_000;
+    private double bloomFalsePositiveRate = 0.001;
+    private long bloomRebuildAfterRemovals = 1_000;
+    private boolean legacyKeyFallback;
+    private long maxTokenLifetimeMillis = HOUR_MILLIS;
+    private long refreshTokenLifetimeMillis = HOUR_MILLIS;
+    private long watermarkRefreshMillis;
+    private int circuitFailureThreshold = 5;
+    private long circuitOpenMillis = 10_000;
+    private int localCacheMaxEntries = 10_000;
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private BlacklistServiceBuilder(FakeRedis redis) {
+        this.redis = redis;
+    }
+
+    /**
+     * @param redis 연결할 FakeRedis
+     * @return 생성기
+     */
+    public static BlacklistServiceBuilder blacklistService(FakeRedis redis) {
+        return new BlacklistServiceBuilder(redis);
+    }
+
+    public BlacklistServiceBuilder jwtUtil(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+        return this;
+    }
+
+    /**
+     * Bloom 필터 사용 (구간 15분, 구간당 10만 건, 오탐률 0.1%)
+     */
+    public BlacklistServiceBuilder bloomFilter() {
+        this.bloomEnabled = true;
+        return this;
+    }
+
+    public BlacklistServiceBuilder legacyKeyFallback() {
+        this.legacyKeyFallback = true;
+        return this;
+    }
+
+    public BlacklistServiceBuilder maxTokenLifetime(long millis) {
+        this.maxTokenLifetimeMillis = millis;
+        return this;
+    }
+
+    public BlacklistServiceBuilder refreshTokenLifetime(long millis) {
+        this.refreshTokenLifetimeMillis = millis;
+        return this;
+    }
+
+    public BlacklistServiceBuilder watermarkRefresh(long millis) {
+        this.watermarkRefreshMillis = millis;
+        return this;
+    }
+
+    public BlacklistServiceBuilder circuitBreaker(int failureThreshold, long openMillis) {
+        this.circuitFailureThreshold = failureThreshold;
+        this.circuitOpenMillis = openMillis;
+        return this;
+    }
+
+    public BlacklistServiceBuilder localCacheMaxEntries(int maxEntries) {
+        this.localCacheMaxEntries = maxEntries;
+        return this;
+    }
+
+    /**
+     * 회로 차단기가 쓰는 시각 (OPEN 유지 시간을 기다리지 않고 시험할 때)
+     */
+    public BlacklistServiceBuilder clock(LongSupplier clock) {
+        this.clock = clock;
+        return this;
+    }
+
+    public JwtBlacklistService build() {
+        JwtBlacklistService service = new JwtBlacklistService();
+        ReflectionTestUtils.setField(service, "redisTemplate", redis.template());
+        ReflectionTestUtils.setField(service, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(service, "bloomEnabled", bloomEnabled);
+        ReflectionTestUtils.setField(service, "bloomPartitionMinutes", bloomPartitionMinutes);
+        ReflectionTestUtils.setField(service, "bloomExpectedInsertions", bloomExpectedInsertions);
+        ReflectionTestUtils.setField(service, "bloomFalsePositiveRate", bloomFalsePositiveRate);
+        ReflectionTestUtils.setField(service, "bloomRebuildAfterRemovals", bloomRebuildAfterRemovals);
+        ReflectionTestUtils.setField(service, "legacyKeyFallback", legacyKeyFallback);
+        ReflectionTestUtils.setField(service, "maxTokenLifetimeMillis", maxTokenLifetimeMillis);
+        ReflectionTestUtils.setField(service, "refreshTokenLifetimeMillis", refreshTokenLifetimeMillis);
+        ReflectionTestUtils.setField(service, "watermarkRefreshMillis", watermarkRefreshMillis);
+        ReflectionTestUtils.setField(service, "circuitFailureThreshold", circuitFailureThreshold);
+        ReflectionTestUtils.setField(service, "circuitOpenMillis", circuitOpenMillis);
+        ReflectionTestUtils.setField(service, "localCacheMaxEntries", localCacheMaxEntries);
+        ReflectionTestUtils.setField(service, "clock", clock);
+        service.configureFallback();
+        return service;
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.securityexam03.support;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * 테스트용 인메모리 Redis
+ * RedisTemplate을 Mockito로 흉내내고, 명령마다 네트워크 왕복 지연을 재현한다.
+ * 실제 Redis 없이 블랙리스트 동작과 지연 시간을 검증할 때 사용한다.
+ * executePipelined 안의 명령은 모아서 한 번의 왕복으로 처리하고, getExpire 결과는 호출 순서대로 돌려준다.
+ */
+public final class FakeRedis {
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, Double>> sortedSets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<Object, Object>> hashes = new ConcurrentHashMap<>();
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+    private final long roundTripNanos;
+    private final AtomicLong commandCount = new AtomicLong();
+    private final AtomicLong roundTripCount = new AtomicLong();
+    private final ThreadLocal<Boolean> pipelining = ThreadLocal.withInitial(() -> false);
+    private final ThreadLocal<List<Object>> pipelineReplies = ThreadLocal.withInitial(ArrayList::new);
+    private volatile long outageTimeoutNanos = -1;
+    private final RedisTemplate<String, String> template;
+
+    /**
+     * @param roundTripMicros 명령당 재현할 왕복 지연 (마이크로초)
+     */
+    public FakeRedis(long roundTripMicros) {
+        this.roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        this.template = createTemplate();
+    }
+
+    /**
+     * 인메모리 저장소를 사용하는 RedisTemplate (Mockito 검증에도 사용 가능)
+     * @return RedisTemplate
+     */
+    public RedisTemplate<String, String> template() {
+        return template;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> createTemplate() {
+        RedisTemplate<String, String> template = mock(RedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+
+        when(template.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> {
+            roundTrip();
+            String key = invocation.getArgument(0);
+            long timeout = invocation.getArgument(2);
+            TimeUnit unit = invocation.getArgument(3);
+            store.put(key, invocation.getArgument(1));
+            expiresAt.put(key, System.currentTimeMillis() + unit.toMillis(timeout));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            roundTrip();
+            String key = invocation.getArgument(0);
+            long timeout = invocation.getArgument(2);
+            TimeUnit unit = invocation.getArgument(3);
+            if (store.putIfAbsent(key, invocation.getArgument(1)) != null) {
+                return false;
+            }
+            expiresAt.put(key, System.currentTimeMillis() + unit.toMillis(timeout));
+            return true;
+        });
+        when(valueOperations.get(any())).thenAnswer(invocation -> {
+            roundTrip();
+            return store.get((String) invocation.getArgument(0));
+        });
+
+        when(template.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenAnswer(invocation -> {
+            roundTrip();
+            return sortedSet(invocation.getArgument(0))
+                    .put(invocation.getArgument(1), invocation.getArgument(2)) == null;
+        });
+        when(zSetOperations.add(anyString(), anySet())).thenAnswer(invocation -> {
+            roundTrip();
+            Set<TypedTuple<String>> tuples = invocation.getArgument(1);
+            Map<String, Double> sortedSet = sortedSet(invocation.getArgument(0));
+            return tuples.stream().filter(tuple -> sortedSet.put(tuple.getValue(), tuple.getScore()) == null).count();
+        });
+        when(zSetOperations.remove(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            roundTrip();
+            Map<String, Double> sortedSet = sortedSet(invocation.getArgument(0));
+            long removed = 0;
+            for (int i = 1; i < invocation.getArguments().length; i++) {
+                if (sortedSet.remove(invocation.getArgument(i)) != null) {
+                    removed++;
+                }
+            }
+            return removed;
+        });
+        when(zSetOperations.score(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            roundTrip();
+            Map<String, Double> sortedSet = sortedSet(invocation.getArgument(0));
+            List<Double> scores = new ArrayList<>();
+            for (int i = 1; i < invocation.getArguments().length; i++) {
+                scores.add(sortedSet.get(invocation.getArgument(i)));
+            }
+            return scores;
+        });
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            roundTrip();
+            double min = invocation.getArgument(1);
+            double max = invocation.getArgument(2);
+            Map<String, Double> sortedSet = sortedSet(invocation.getArgument(0));
+            long before = sortedSet.size();
+            sortedSet.values().removeIf(score -> score >= min && score <= max);
+            return before - sortedSet.size();
+        });
+        when(zSetOperations.count(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            roundTrip();
+            double min = invocation.getArgument(1);
+            double max = invocation.getArgument(2);
+            return sortedSet(invocation.getArgument(0)).values().stream()
+                    .filter(score -> score >= min && score <= max)
+                    .count();
+        });
+        when(zSetOperations.zCard(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return (long) sortedSet(invocation.getArgument(0)).size();
+        });
+
+        when(template.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return Map.copyOf(hash(invocation.getArgument(0)));
+        });
+        when(hashOperations.get(anyString(), any())).thenAnswer(invocation -> {
+            roundTrip();
+            return hash(invocation.getArgument(0)).get(invocation.getArgument(1));
+        });
+        doAnswer(invocation -> {
+            roundTrip();
+            hash(invocation.getArgument(0)).put(invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(hashOperations).put(anyString(), any(), any());
+        when(hashOperations.delete(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            roundTrip();
+            Map<Object, Object> hash = hash(invocation.getArgument(0));
+            long removed = 0;
+            for (int i = 1; i < invocation.getArguments().length; i++) {
+                if (hash.remove(invocation.getArgument(i)) != null) {
+                    removed++;
+                }
+            }
+            return removed;
+        });
+        when(template.expire(anyString(), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            roundTrip();
+            String key = invocation.getArgument(0);
+            long timeout = invocation.getArgument(1);
+            TimeUnit unit = invocation.getArgument(2);
+            expiresAt.put(key, System.currentTimeMillis() + unit.toMillis(timeout));
+            return true;
+        });
+        when(template.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<Object> callback = invocation.getArgument(0);
+            List<Object> replies = pipelineReplies.get();
+            replies.clear();
+            pipelining.set(true);
+            try {
+                callback.execute(template);
+            } finally {
+                pipelining.set(false);
+            }
+            flushPipeline();
+            List<Object> results = new ArrayList<>(replies);
+            replies.clear();
+            return results;
+        });
+
+        when(template.hasKey(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            String key = invocation.getArgument(0);
+            return store.containsKey(key) || !sortedSet(key).isEmpty();
+        });
+        when(template.countExistingKeys(anyCollection())).thenAnswer(invocation -> {
+            roundTrip();
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(store::containsKey).count();
+        });
+        when(template.getExpire(anyString(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            roundTrip();
+            String key = invocation.getArgument(0);
+            TimeUnit unit = invocation.getArgument(1);
+            Long expiry = expiresAt.get(key);
+            long ttl = !store.containsKey(key) ? -2L
+                    : expiry == null ? -1L : unit.convert(expiry - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+            return reply(ttl);
+        });
+        when(template.delete(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return removeKey(invocation.getArgument(0));
+        });
+        when(template.delete(anyCollection())).thenAnswer(invocation -> {
+            roundTrip();
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(this::removeKey).count();
+        });
+        when(template.unlink(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return removeKey(invocation.getArgument(0));
+        });
+        when(template.unlink(anyCollection())).thenAnswer(invocation -> {
+            roundTrip();
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(this::removeKey).count();
+        });
+        when(template.keys(anyString())).thenAnswer(invocation -> {
+            roundTrip();
+            return matching(invocation.getArgument(0));
+        });
+        when(template.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            roundTrip();
+            ScanOptions options = invocation.getArgument(0);
+            return cursor(List.copyOf(matching(options.getPattern())));
+        });
+        return template;
+    }
+
+    /**
+     * 저장된 키-값 (테스트에서 직접 조작용)
+     * @return 저장소
+     */
+    public Map<String, String> store() {
+        return store;
+    }
+
+    /**
+     * 지금까지 처리한 명령 수
+     * @return 명령 수
+     */
+    public long commandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * Redis 장애 재현: 이후 모든 명령이 timeoutMillis 동안 기다린 뒤 타임아웃 예외를 던진다
+     * @param timeoutMillis 명령 타임아웃 (밀리초)
+     */
+    public void outage(long timeoutMillis) {
+        this.outageTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * Redis 장애 복구
+     */
+    public void recover() {
+        this.outageTimeoutNanos = -1;
+    }
+
+    /**
+     * 지금까지 재현한 네트워크 왕복 수 (파이프라인은 한 번)
+     * @return 왕복 수
+     */
+    public long roundTripCount() {
+        return roundTripCount.get();
+    }
+
+    /**
+     * 해시 내용 (테스트에서 직접 조작용)
+     * @param key 키
+     * @return 필드별 값
+     */
+    public Map<Object, Object> hash(String key) {
+        return hashes.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 정렬 집합 내용 (테스트에서 직접 조작용)
+     * @param key 키
+     * @return 멤버별 점수
+     */
+    public Map<String, Double> sortedSet(String key) {
+        return sortedSets.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * 키의 만료 시각 (테스트에서 직접 조작용)
+     * @return 키별 만료 시각 (epoch 밀리초)
+     */
+    public Map<String, Long> expiresAt() {
+        return expiresAt;
+    }
+
+    private boolean removeKey(String key) {
+        expiresAt.remove(key);
+        boolean removed = store.remove(key) != null;
+        Map<String, Double> sortedSet = sortedSets.remove(key);
+        Map<Object, Object> hash = hashes.remove(key);
+        return removed || (sortedSet != null && !sortedSet.isEmpty()) || (hash != null && !hash.isEmpty());
+    }
+
+    private Set<String> matching(String pattern) {
+        if (pattern == null || pattern.equals("*")) {
+            return Set.copyOf(store.keySet());
+        }
+        String prefix = pattern.endsWith("*") ? pattern.substring(0, pattern.length() - 1) : pattern;
+        return store.keySet().stream()
+                .filter(key -> pattern.endsWith("*") ? key.startsWith(prefix) : key.equals(prefix))
+                .collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(invocation -> iterator.next());
+        return cursor;
+    }
+
+    private void roundTrip() {
+        commandCount.incrementAndGet();
+        long outage = outageTimeoutNanos;
+        if (outage >= 0) {
+            spin(outage);
+            throw new QueryTimeoutException("Redis command timed out (simulated)");
+        }
+        if (pipelining.get()) {
+            // 파이프라인 안의 명령은 executePipelined가 끝날 때 한 번에 왕복한다
+            return;
+        }
+        roundTripCount.incrementAndGet();
+        spin(roundTripNanos);
+    }
+
+    // 파이프라인 안에서는 결과를 모아 두고 null을 돌려준다 (실제 RedisTemplate과 같음)
+    private Object reply(Object result) {
+        if (pipelining.get()) {
+            pipelineReplies.get().add(result);
+            return null;
+        }
+        return result;
+    }
+
+    // 파이프라인 전송 자체는 명령이 아니므로 왕복만 센다
+    private void flushPipeline() {
+        long outage = outageTimeoutNanos;
+        if (outage >= 0) {
+            spin(outage);
+            throw new QueryTimeoutException("Redis command timed out (simulated)");
+        }
+        roundTripCount.incrementAndGet();
+        spin(roundTripNanos);
+    }
+
+    private static void spin(long nanos) {
+        // parkNanos는 해상도가 거칠어 짧은 지연을 바쁜 대기로 재현한다
+        long deadline = System.nanoTime() + nanos;
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.securityexam03.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JwtUtil 단일 검증(ParsedToken) 테스트
+ */
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 3600000);
+    }
+
+    @Test
+    void parseTokenCarriesAllClaimsFromOneVerification() {
+        String token = jwtUtil.createToken("jwt_admin", List.of("ROLE_ADMIN", "ROLE_USER"));
+
+        ParsedToken parsedToken = jwtUtil.parseToken(token);
+
+        assertThat(parsedToken).isNotNull();
+        assertThat(parsedToken.getSubject()).isEqualTo("jwt_admin");
+        assertThat(parsedToken.getRoles()).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(parsedToken.getTokenId()).isEqualTo(jwtUtil.extractTokenId(token));
+        assertThat(parsedToken.getExpiration()).isEqualTo(jwtUtil.getExpirationDate(token));
+        assertThat(parsedToken.getRemainingMillis()).isPositive();
+    }
+
+    @Test
+    void issuedAtKeepsMillisecondPrecision() {
+        long before = System.currentTimeMillis();
+        String token = jwtUtil.createToken("jwt_user", List.of("ROLE_USER"));
+        long after = System.currentTimeMillis();
+
+        long issuedAt = jwtUtil.parseToken(token).getIssuedAt().getTime();
+
+        assertThat(issuedAt).isBetween(before, after);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtUtil.createToken("jwt_user", List.of("ROLE_USER"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtUtil.parseToken(tampered)).isNull();
+        assertThat(jwtUtil.validateToken(tampered)).isFalse();
+        assertThat(jwtUtil.parseToken("not-a-jwt")).isNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.securityexam03.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Redis 회로 차단기 상태 전이 테스트
+ */
+class RedisCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final RedisCircuitBreaker breaker = new RedisCircuitBreaker(3, 10_000, clock::get);
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsUntilOpenDurationPasses() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+
+        breaker.recordFailure();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+
+        clock.addAndGet(9_999);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.getOpenTransitions()).isEqualTo(1);
+        assertThat(breaker.getRejectedCalls()).isEqualTo(2);
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialThenClosesOnSuccess() {
+        open();
+        clock.addAndGet(10_000);
+
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.HALF_OPEN);
+        // 시험 호출이 끝나기 전의 다른 호출은 거절
+        assertThat(breaker.allowRequest()).isFalse();
+
+        breaker.recordSuccess();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getHalfOpenTransitions()).isEqualTo(1);
+        assertThat(breaker.getCloseTransitions()).isEqualTo(1);
+    }
+
+    @Test
+    void failedTrialReopens() {
+        open();
+        clock.addAndGet(10_000);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(breaker.getOpenTransitions()).isEqualTo(2);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.totalexam.security;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 검증 처리량 비교
+ * - legacyDoubleParse: 기존 필터 방식 (validateToken + getUsernameFromToken, 매번 새 파서로 두 번 파싱)
+ * - singleParse: 재사용 파서로 한 번 파싱 (캐시 미적중 상황)
+ * - cachedParse: parseAndValidate 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtValidationBenchmark {
+    
+    private static final String SECRET =
+            "totalexam-secret-key-for-jwt-token-generation-and-validation-very-long-key";
+    
+    private SecretKey key;
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider nonCachingProvider;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        cachingProvider = new JwtTokenProvider(SECRET, 86400000, 10000);
+        nonCachingProvider = new JwtTokenProvider(SECRET, 86400000, 0);
+        
+        UserDetails user = User.withUsername("user1").password("").roles("USER").build();
+        token = cachingProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+    
+    @Benchmark
+    public String legacyDoubleParse() {
+        Jwts.parser().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+    
+    @Benchmark
+    public VerifiedToken singleParse() {
+        return nonCachingProvider.parseAndValidate(token).orElseThrow();
+    }
+    
+    @Benchmark
+    public VerifiedToken cachedParse() {
+        return cachingProvider.parseAndValidate(token).orElseThrow();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.totalexam.audit;
+
+/**
+ * 감사 이벤트 종류
+ */
+public enum AuditAction {
+    POST_CREATE,
+    POST_UPDATE,
+    POST_DELETE,
+    POST_VIEW,
+    POST_LIST,
+    POST_SEARCH,
+    POST_LIST_BY_USER,
+    POST_STATS,
+    POST_IMPORT,
+    POST_EXPORT
+}
@@ -0,0 +1,23 @@
+package com.example.totalexam.audit;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 감사 이벤트
+ * 요청 스레드에서는 값만 담아 버퍼에 넣고, 직렬화는 백그라운드 기록 스레드에서 수행
+ */
+@Getter
+@AllArgsConstructor
+public class AuditEvent {
+    
+    private final AuditAction action;
+    private final String actor;
+    
+    /** 대상 (게시글 ID, 검색어, 사용자명 등, 없으면 null) */
+    private final String target;
+    
+    private final Instant timestamp;
+}
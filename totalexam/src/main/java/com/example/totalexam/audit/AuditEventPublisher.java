@@ -0,0 +1,157 @@
+package com.example.totalexam.audit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 감사 로그 파이프라인
+ * 요청 스레드는 고정 크기 링 버퍼에 이벤트를 넣기만 하고(가득 차면 버리고 audit.events.dropped 증가),
+ * 백그라운드 스레드가 모아서 AUDIT 로거(logback-spring.xml의 롤링 파일)로 일괄 기록
+ * (직렬화에 실패한 이벤트는 audit.events.failed로 따로 집계)
+ */
+@Component
+@Slf4j
+public class AuditEventPublisher {
+    
+    private static final Logger AUDIT_LOG = LoggerFactory.getLogger("AUDIT");
+    private static final String ANONYMOUS = "anonymous";
+    
+    private final BlockingQueue<AuditEvent> buffer;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Counter writtenCounter;
+    
+    private volatile boolean running;
+    private Thread writer;
+    
+    public AuditEventPublisher(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                               @Value("${audit.batch-size:256}") int batchSize,
+                               @Value("${audit.flush-interval-ms:200}") long flushIntervalMs) {
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.publishedCounter = meterRegistry.counter("audit.events.published");
+        this.droppedCounter = meterRegistry.counter("audit.events.dropped");
+        this.failedCounter = meterRegistry.counter("audit.events.failed");
+        this.writtenCounter = meterRegistry.counter("audit.events.written");
+        meterRegistry.gauge("audit.buffer.size", buffer, BlockingQueue::size);
+    }
+    
+    /**
+     * 현재 인증 사용자를 행위자로 하는 감사 이벤트 발행 (블로킹 없음)
+     */
+    public void publish(AuditAction action, String target) {
+        AuditEvent event = new AuditEvent(action, currentActor(), target, Instant.now());
+        if (buffer.offer(event)) {
+            publishedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+    
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        // 종료 시 남은 이벤트 기록
+        List<AuditEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        write(remaining);
+    }
+    
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditEvent first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("감사 로그 기록 실패: {}", ex.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+    
+    /**
+     * 배치를 JSON Lines로 직렬화하여 한 번에 기록
+     */
+    private void write(List<AuditEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder(batch.size() * 128);
+        int written = 0;
+        for (AuditEvent event : batch) {
+            try {
+                String line = objectMapper.writeValueAsString(event);
+                if (written++ > 0) {
+                    lines.append('\n');
+                }
+                lines.append(line);
+            } catch (JsonProcessingException ex) {
+                // 버퍼 초과로 버린 이벤트(dropped)와 구분하여 집계
+                failedCounter.increment();
+                log.warn("감사 이벤트 직렬화 실패: {} - {}", event.getAction(), ex.getOriginalMessage());
+            }
+        }
+        if (written > 0) {
+            AUDIT_LOG.info(lines.toString());
+            writtenCounter.increment(written);
+        }
+    }
+    
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return ANONYMOUS;
+        }
+        return authentication.getName();
+    }
+}
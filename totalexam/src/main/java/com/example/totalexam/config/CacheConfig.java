@@ -0,0 +1,16 @@
+package com.example.totalexam.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 설정
+ * 캐시 구현(Caffeine)과 크기는 application.yml의 spring.cache 설정을 사용
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    /** 게시글 상세 조회(PostResponse) 캐시 */
+    public static final String POSTS_CACHE = "posts";
+}
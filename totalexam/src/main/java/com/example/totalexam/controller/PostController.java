@@ -1,10 +1,18 @@
 package com.example.totalexam.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,17 +21,28 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.totalexam.audit.AuditAction;
+import com.example.totalexam.audit.AuditEventPublisher;
+import com.example.totalexam.dto.AuthorStatsResponse;
+import com.example.totalexam.dto.PostImportResult;
 import com.example.totalexam.dto.PostRequest;
 import com.example.totalexam.dto.PostResponse;
+import com.example.totalexam.dto.PostSliceResponse;
+import com.example.totalexam.service.PostBulkService;
 import com.example.totalexam.service.PostService;
+import com.example.totalexam.service.PostStatsService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 /**
  * 게시글 관련 REST API 컨트롤러
@@ -31,11 +50,17 @@ import lombok.extern.slf4j.Slf4j;
 @RestController
 @RequestMapping("/api/posts")
 @RequiredArgsConstructor
-@Slf4j
 @CrossOrigin(origins = "*")
 public class PostController {
     
+    /** 스트리밍 응답에서 출력 버퍼를 비우는 간격 (첫 건은 즉시 전송) */
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+    
     private final PostService postService;
+    private final PostBulkService postBulkService;
+    private final PostStatsService postStatsService;
+    private final ObjectMapper objectMapper;
+    private final AuditEventPublisher auditEventPublisher;
     
     /**
      * 게시글 생성 API (JWT 인증 필요)
@@ -44,9 +69,8 @@ public class PostController {
     @PostMapping
     public ResponseEntity<PostResponse> createPost(@Valid @RequestBody PostRequest postRequest,
                                                   Authentication authentication) {
-        log.info("게시글 생성 API 호출: {} by {}", postRequest.getTitle(), authentication.getName());
-        
         PostResponse response = postService.createPost(postRequest, authentication);
+        auditEventPublisher.publish(AuditAction.POST_CREATE, String.valueOf(response.getId()));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
@@ -58,22 +82,59 @@ public class PostController {
     public ResponseEntity<Page<PostResponse>> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        log.info("게시글 목록 조회 API 호출: page={}, size={}", page, size);
+        auditEventPublisher.publish(AuditAction.POST_LIST, null);
         
         Page<PostResponse> posts = postService.getAllPosts(page, size);
         return ResponseEntity.ok(posts);
     }
     
+    /**
+     * 게시글 목록 조회 API - 커서 페이징 (인증 불필요)
+     * GET /api/posts/cursor?cursor={nextCursor}&size={size}
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<PostSliceResponse> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        auditEventPublisher.publish(AuditAction.POST_LIST, null);
+        
+        PostSliceResponse posts = postService.getPostsByCursor(cursor, size);
+        return ResponseEntity.ok(posts);
+    }
+    
+    /**
+     * 작성자별 게시글 통계 API (인증 불필요)
+     * GET /api/posts/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<AuthorStatsResponse>> getAllStats() {
+        auditEventPublisher.publish(AuditAction.POST_STATS, null);
+        
+        return ResponseEntity.ok(postStatsService.getAllStats());
+    }
+    
+    /**
+     * 특정 작성자 게시글 통계 API (인증 불필요)
+     * GET /api/posts/stats?username={username}
+     */
+    @GetMapping(value = "/stats", params = "username")
+    public ResponseEntity<AuthorStatsResponse> getStats(@RequestParam String username) {
+        auditEventPublisher.publish(AuditAction.POST_STATS, username);
+        
+        return ResponseEntity.ok(postStatsService.getStats(username));
+    }
+    
     /**
      * 게시글 상세 조회 API (인증 불필요)
      * GET /api/posts/{id}
      */
     @GetMapping("/{id}")
     public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
-        log.info("게시글 상세 조회 API 호출: {}", id);
-        
         PostResponse post = postService.getPost(id);
-        return ResponseEntity.ok(post);
+        auditEventPublisher.publish(AuditAction.POST_VIEW, String.valueOf(id));
+        
+        // If-None-Match가 ETag와 일치하면 Spring MVC가 본문 없이 304 Not Modified로 응답
+        return ResponseEntity.ok().eTag(eTagOf(post)).body(post);
     }
     
     /**
@@ -84,9 +145,8 @@ public class PostController {
     public ResponseEntity<PostResponse> updatePost(@PathVariable Long id,
                                                   @Valid @RequestBody PostRequest postRequest,
                                                   Authentication authentication) {
-        log.info("게시글 수정 API 호출: {} by {}", id, authentication.getName());
-        
         PostResponse response = postService.updatePost(id, postRequest, authentication);
+        auditEventPublisher.publish(AuditAction.POST_UPDATE, String.valueOf(id));
         return ResponseEntity.ok(response);
     }
     
@@ -97,33 +157,130 @@ public class PostController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id,
                                           Authentication authentication) {
-        log.info("게시글 삭제 API 호출: {} by {}", id, authentication.getName());
-        
         postService.deletePost(id, authentication);
+        auditEventPublisher.publish(AuditAction.POST_DELETE, String.valueOf(id));
         return ResponseEntity.noContent().build();
     }
     
     /**
-     * 게시글 검색 API (인증 불필요)
+     * 게시글 검색 API (인증 불필요, 관련도순 전체 스트리밍)
      * GET /api/posts/search?keyword={keyword}
+     * Accept: application/x-ndjson 이면 NDJSON, 그 외에는 JSON 배열로 스트리밍
      */
     @GetMapping("/search")
-    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String keyword) {
-        log.info("게시글 검색 API 호출: {}", keyword);
+    public ResponseEntity<StreamingResponseBody> searchPosts(
+            @RequestParam String keyword,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        auditEventPublisher.publish(AuditAction.POST_SEARCH, keyword);
+        
+        return streamPosts(accept, consumer -> postService.streamSearchResults(keyword, consumer));
+    }
+    
+    /**
+     * 게시글 검색 API - 페이징 (인증 불필요, 관련도순)
+     * GET /api/posts/search?keyword={keyword}&page={page}&size={size}
+     */
+    @GetMapping(value = "/search", params = "page")
+    public ResponseEntity<Page<PostResponse>> searchPosts(@RequestParam String keyword,
+                                                         @RequestParam int page,
+                                                         @RequestParam(defaultValue = "10") int size) {
+        auditEventPublisher.publish(AuditAction.POST_SEARCH, keyword);
         
-        List<PostResponse> posts = postService.searchPosts(keyword);
+        Page<PostResponse> posts = postService.searchPosts(keyword, page, size);
         return ResponseEntity.ok(posts);
     }
     
     /**
-     * 사용자별 게시글 조회 API (인증 불필요)
+     * 사용자별 게시글 조회 API (인증 불필요, 스트리밍)
      * GET /api/posts/user/{username}
+     * Accept: application/x-ndjson 이면 NDJSON, 그 외에는 JSON 배열로 스트리밍
      */
     @GetMapping("/user/{username}")
-    public ResponseEntity<List<PostResponse>> getPostsByUser(@PathVariable String username) {
-        log.info("사용자별 게시글 조회 API 호출: {}", username);
+    public ResponseEntity<StreamingResponseBody> getPostsByUser(
+            @PathVariable String username,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        auditEventPublisher.publish(AuditAction.POST_LIST_BY_USER, username);
         
-        List<PostResponse> posts = postService.getPostsByUser(username);
-        return ResponseEntity.ok(posts);
+        postService.requireUser(username);
+        return streamPosts(accept, consumer -> postService.streamPostsByUser(username, consumer));
+    }
+    
+    /**
+     * 게시글 대량 가져오기 API (관리자 전용, NDJSON)
+     * POST /api/posts/import
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PostImportResult> importPosts(InputStream body,
+                                                       Authentication authentication) throws IOException {
+        PostImportResult result = postBulkService.importPosts(body, authentication);
+        auditEventPublisher.publish(AuditAction.POST_IMPORT, null);
+        return ResponseEntity.ok(result);
+    }
+    
+    /**
+     * 게시글 전체 내보내기 API (인증 불필요, NDJSON 스트리밍)
+     * GET /api/posts/export
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        auditEventPublisher.publish(AuditAction.POST_EXPORT, null);
+        
+        StreamingResponseBody body = postBulkService::exportPosts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
+    /**
+     * 게시글 버전(ID + 최종 수정 시각) 기반 ETag
+     */
+    private String eTagOf(PostResponse post) {
+        LocalDateTime version = post.getUpdatedAt() != null ? post.getUpdatedAt() : post.getCreatedAt();
+        return "\"" + post.getId() + "-" + version + "\"";
+    }
+    
+    /**
+     * 게시글을 하나씩 직렬화하여 스트리밍 응답 생성
+     * 전체 목록을 힙에 만들지 않으므로 결과 크기와 무관하게 첫 바이트가 바로 전송됨
+     */
+    private ResponseEntity<StreamingResponseBody> streamPosts(String accept,
+                                                              Consumer<Consumer<PostResponse>> source) {
+        boolean ndjson = accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        
+        StreamingResponseBody body = output -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+                if (ndjson) {
+                    generator.setRootValueSeparator(new SerializedString("\n"));
+                } else {
+                    generator.writeStartArray();
+                }
+                
+                int[] count = {0};
+                source.accept(post -> {
+                    try {
+                        generator.writeObject(post);
+                        if (++count[0] % STREAM_FLUSH_INTERVAL == 1) {
+                            generator.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                
+                // NDJSON은 마지막 줄만 개행으로 끝내고, 결과가 없으면 빈 본문
+                if (ndjson) {
+                    if (count[0] > 0) {
+                        generator.writeRaw('\n');
+                    }
+                } else {
+                    generator.writeEndArray();
+                }
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
     }
-} 
\ No newline at end of file
+}
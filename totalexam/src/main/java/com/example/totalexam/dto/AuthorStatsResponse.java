@@ -0,0 +1,24 @@
+package com.example.totalexam.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 작성자별 게시글 통계 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorStatsResponse {
+    
+    private String username;
+    private long postCount;
+    private LocalDateTime firstPostAt;
+    private LocalDateTime lastPostAt;
+    
+    /** 첫 게시글 이후 하루 평균 게시글 수 */
+    private double postsPerDay;
+}
@@ -0,0 +1,61 @@
+package com.example.totalexam.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.totalexam.exception.InvalidPageRequestException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이징용 커서
+ * 마지막으로 읽은 게시글의 (createdAt, id)를 불투명한 문자열로 인코딩
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    
+    private static final String SEPARATOR = "_";
+    
+    private final LocalDateTime createdAt;
+    private final Long id;
+    
+    public static PostCursor of(PostResponse post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+    
+    /**
+     * 커서를 URL-safe Base64 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 문자열 커서를 디코딩
+     */
+    public static PostCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageRequestException("잘못된 커서입니다: " + cursor, ex);
+        }
+        
+        int idx = raw.lastIndexOf(SEPARATOR);
+        if (idx < 0) {
+            throw new InvalidPageRequestException("잘못된 커서입니다: " + cursor);
+        }
+        try {
+            return new PostCursor(LocalDateTime.parse(raw.substring(0, idx)),
+                                  Long.valueOf(raw.substring(idx + 1)));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new InvalidPageRequestException("잘못된 커서입니다: " + cursor, ex);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.totalexam.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 대량 가져오기 NDJSON 한 줄에 해당하는 DTO
+ * authorUsername이 없으면 요청한 사용자, createdAt이 없으면 현재 시각을 사용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportRecord {
+    
+    private String title;
+    private String content;
+    private String authorUsername;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.example.totalexam.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 대량 가져오기 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportResult {
+    
+    private long imported;
+    private long failed;
+    private int chunks;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    
+    /** 실패한 줄의 오류 메시지 (최대 100건) */
+    private List<String> errors;
+}
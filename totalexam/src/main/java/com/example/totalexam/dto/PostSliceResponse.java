@@ -0,0 +1,22 @@
+package com.example.totalexam.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 게시글 목록 응답 DTO
+ * 전체 개수(COUNT) 없이 다음 페이지 커서만 제공
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSliceResponse {
+    
+    private List<PostResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
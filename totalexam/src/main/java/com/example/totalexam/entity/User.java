@@ -8,8 +8,11 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.example.totalexam.security.UserPrincipalCacheListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -24,6 +27,7 @@ import lombok.NoArgsConstructor;
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserPrincipalCacheListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -75,6 +75,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
     
+    /**
+     * 잘못된 페이징 요청 예외 처리
+     */
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        log.warn("잘못된 요청: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            "BAD_REQUEST",
+            ex.getMessage(),
+            null
+        );
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
     /**
      * 리소스를 찾을 수 없는 예외 처리
      */
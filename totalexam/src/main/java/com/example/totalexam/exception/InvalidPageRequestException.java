@@ -0,0 +1,17 @@
+package com.example.totalexam.exception;
+
+/**
+ * 잘못된 페이징 요청(커서, 페이지 크기) 예외
+ */
+public class InvalidPageRequestException extends RuntimeException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+    
+    public InvalidPageRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.totalexam.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작성자별 게시글 집계 결과 프로젝션
+ */
+public interface AuthorPostAggregate {
+    
+    String getUsername();
+    
+    Long getPostCount();
+    
+    LocalDateTime getFirstPostAt();
+    
+    LocalDateTime getLastPostAt();
+}
@@ -1,24 +1,37 @@
 package com.example.totalexam.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.totalexam.dto.PostResponse;
 import com.example.totalexam.entity.Post;
 import com.example.totalexam.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * 게시글 리포지토리 인터페이스
  */
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
     
+    /**
+     * PostResponse 생성자 표현식 (작성자 지연 로딩으로 인한 N+1 쿼리 방지)
+     */
+    String POST_RESPONSE = "new com.example.totalexam.dto.PostResponse(" +
+            "p.id, p.title, p.content, a.username, a.fullName, p.createdAt, p.updatedAt)";
+    
     /**
      * 작성자별 게시글 조회
      */
@@ -46,11 +59,88 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
     
+    /**
+     * 최신 게시글 조회 (페이징, 작성자 조인 프로젝션)
+     */
+    @Query(value = "SELECT " + POST_RESPONSE + " FROM Post p JOIN p.author a",
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostResponse> findAllPostResponses(Pageable pageable);
+    
+    /**
+     * 최신 게시글 조회 (커서 페이징 첫 페이지, COUNT 쿼리 없음)
+     */
+    @Query("SELECT " + POST_RESPONSE + " FROM Post p JOIN p.author a " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findLatestSlice(Pageable pageable);
+    
+    /**
+     * 커서 이후 게시글 조회 (커서 페이징, idx_posts_created_at_id 인덱스 사용)
+     */
+    @Query("SELECT " + POST_RESPONSE + " FROM Post p JOIN p.author a " +
+           "WHERE p.createdAt < :createdAt " +
+           "OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostResponse> findSliceBefore(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+    
+    /**
+     * ID 목록으로 게시글 조회 (작성자 조인 프로젝션)
+     */
+    @Query("SELECT " + POST_RESPONSE + " FROM Post p JOIN p.author a WHERE p.id IN :ids")
+    List<PostResponse> findPostResponsesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 작성자 사용자명으로 게시글 스트리밍 조회 (작성자 조인 프로젝션)
+     * 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT " + POST_RESPONSE + " FROM Post p JOIN p.author a WHERE a.username = :username")
+    Stream<PostResponse> streamPostResponsesByAuthorUsername(@Param("username") String username);
+    
+    /**
+     * 전체 게시글 스트리밍 조회 (내보내기용, 전체를 메모리에 올리지 않고 커서로 순회)
+     * 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT " + POST_RESPONSE + " FROM Post p JOIN p.author a ORDER BY p.id")
+    Stream<PostResponse> streamAllPostResponses();
+    
+    /**
+     * 검색 색인용 게시글 스트리밍 조회 (ID, 제목, 내용만 조회)
+     * 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content FROM Post p")
+    Stream<PostSearchDocument> streamSearchDocuments();
+    
+    /**
+     * 검색 후보 확인용 게시글 조회 (ID, 제목, 내용만 조회)
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.content AS content FROM Post p WHERE p.id IN :ids")
+    List<PostSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+    
     /**
      * 특정 기간 내 게시글 조회
      */
     List<Post> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
     
+    /**
+     * 전체 작성자별 게시글 집계 (통계 재구축용)
+     */
+    @Query("SELECT a.username AS username, COUNT(p) AS postCount, " +
+           "MIN(p.createdAt) AS firstPostAt, MAX(p.createdAt) AS lastPostAt " +
+           "FROM Post p JOIN p.author a GROUP BY a.username")
+    List<AuthorPostAggregate> aggregateByAuthor();
+    
+    /**
+     * 특정 작성자의 게시글 집계 (author_id 인덱스 범위 조회)
+     */
+    @Query("SELECT a.username AS username, COUNT(p) AS postCount, " +
+           "MIN(p.createdAt) AS firstPostAt, MAX(p.createdAt) AS lastPostAt " +
+           "FROM Post p JOIN p.author a WHERE a.username = :username GROUP BY a.username")
+    Optional<AuthorPostAggregate> aggregateByAuthorUsername(@Param("username") String username);
+    
     /**
      * 작성자별 게시글 개수 조회
      */
@@ -0,0 +1,13 @@
+package com.example.totalexam.repository;
+
+/**
+ * 검색 색인 구축용 게시글 프로젝션 (작성자 등 연관 엔티티를 로딩하지 않음)
+ */
+public interface PostSearchDocument {
+    
+    Long getId();
+    
+    String getTitle();
+    
+    String getContent();
+}
@@ -1,11 +1,13 @@
 package com.example.totalexam.security;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,7 +30,14 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    
+    /**
+     * true이면 DB/캐시 조회 없이 서명된 토큰의 권한 클레임만으로 인증
+     * (토큰 만료 전까지는 권한/비활성화 변경이 반영되지 않음)
+     */
+    @Value("${jwt.claims-only-auth:false}")
+    private boolean claimsOnlyAuth;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -37,10 +46,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
+            Optional<VerifiedToken> verified = StringUtils.hasText(jwt)
+                    ? tokenProvider.parseAndValidate(jwt)
+                    : Optional.empty();
+            
+            if (verified.isPresent()) {
+                String username = verified.get().getUsername();
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = loadPrincipal(verified.get());
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -55,6 +68,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * 인증 주체 조회
+     * 클레임 전용 모드에서는 토큰의 권한 클레임으로 생성하고, 그 외에는 사용자 캐시를 사용
+     */
+    private UserDetails loadPrincipal(VerifiedToken token) {
+        // 권한 클레임이 없는 이전 토큰은 캐시 조회로 대체
+        if (claimsOnlyAuth && !token.getAuthorities().isEmpty()) {
+            return new User(token.getUsername(), "", token.getAuthorities());
+        }
+        return userPrincipalCache.get(token.getUsername());
+    }
+    
     /**
      * HTTP 요청에서 JWT 토큰 추출
      */
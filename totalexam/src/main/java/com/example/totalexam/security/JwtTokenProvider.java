@@ -1,21 +1,39 @@
 package com.example.totalexam.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -25,13 +43,49 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtTokenProvider {
     
+    private static final String ROLES_CLAIM = "roles";
+    
     private final SecretKey key;
     private final int jwtExpirationInMs;
     
+    /** 불변/스레드 안전 파서 (요청마다 새로 만들지 않도록 재사용) */
+    private final JwtParser parser;
+    
+    /** 검증 완료 토큰 캐시 (토큰 해시 기준, 토큰 만료 시각에 함께 만료) */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final boolean cacheEnabled;
+    
     public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
-                           @Value("${jwt.expiration}") int jwtExpirationInMs) {
+                           @Value("${jwt.expiration}") int jwtExpirationInMs,
+                           @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
         this.jwtExpirationInMs = jwtExpirationInMs;
+        this.parser = Jwts.parser()
+                .setSigningKey(key)
+                .build();
+        this.cacheEnabled = verifiedCacheMaxSize > 0;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String hash, VerifiedToken token, long currentTime) {
+                        long remainingMs = token.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String hash, VerifiedToken token,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String hash, VerifiedToken token,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
     
     /**
@@ -40,9 +94,13 @@ public class JwtTokenProvider {
     public String generateToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
         Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
+        String roles = userPrincipal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
         
         return Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
+                .claim(ROLES_CLAIM, roles)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -50,29 +108,29 @@ public class JwtTokenProvider {
     }
     
     /**
-     * JWT 토큰에서 사용자명 추출
+     * JWT 토큰을 한 번만 파싱/서명 검증하여 검증된 토큰 정보 반환
+     * 이미 검증한 토큰은 캐시에서 바로 반환하며, 유효하지 않은 토큰이면 빈 값 반환
      */
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Optional<VerifiedToken> parseAndValidate(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         
-        return claims.getSubject();
-    }
-    
-    /**
-     * JWT 토큰 유효성 검사
-     */
-    public boolean validateToken(String authToken) {
         try {
-            Jwts.parser()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException ex) {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = new VerifiedToken(claims.getSubject(),
+                                                       toAuthorities(claims.get(ROLES_CLAIM, String.class)),
+                                                       claims.getExpiration());
+            if (cacheEnabled && verified.getExpiration() != null) {
+                verifiedTokens.put(hash, verified);
+            }
+            return Optional.of(verified);
+        } catch (SignatureException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
@@ -80,9 +138,58 @@ public class JwtTokenProvider {
             log.error("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+        } catch (JwtException ex) {
+            log.error("Invalid JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+    
+    /**
+     * JWT 토큰에서 사용자명 추출
+     */
+    public String getUsernameFromToken(String token) {
+        return parseAndValidate(token)
+                .map(VerifiedToken::getUsername)
+                .orElseThrow(() -> new MalformedJwtException("유효하지 않은 JWT 토큰입니다"));
+    }
+    
+    /**
+     * JWT 토큰에서 권한 목록 추출 (권한 클레임이 없는 토큰이면 빈 목록)
+     */
+    public List<GrantedAuthority> getAuthoritiesFromToken(String token) {
+        return parseAndValidate(token)
+                .map(VerifiedToken::getAuthorities)
+                .orElseThrow(() -> new MalformedJwtException("유효하지 않은 JWT 토큰입니다"));
+    }
+    
+    /**
+     * JWT 토큰 유효성 검사
+     */
+    public boolean validateToken(String authToken) {
+        return parseAndValidate(authToken).isPresent();
+    }
+    
+    private List<GrantedAuthority> toAuthorities(String roles) {
+        if (roles == null || roles.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(roles.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+    }
+    
+    /**
+     * 캐시 키용 토큰 해시 (원문 토큰을 캐시 키로 보관하지 않음)
+     */
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", ex);
+        }
     }
-} 
\ No newline at end of file
+}
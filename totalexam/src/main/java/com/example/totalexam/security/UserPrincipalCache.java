@@ -0,0 +1,62 @@
+package com.example.totalexam.security;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 인증용 사용자 정보 캐시
+ * 요청마다 UserDetailsService(DB 조회)를 호출하지 않도록 사용자명 기준으로 인증 주체를 캐싱
+ * 비밀번호는 보관하지 않으며, 사용자 권한/활성 상태 변경 시 UserPrincipalCacheListener가 무효화
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+    
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+    
+    public UserPrincipalCache(UserDetailsService userDetailsService,
+                              @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+    
+    /**
+     * 캐시된 인증 주체 조회 (없으면 UserDetailsService로 로드)
+     */
+    public UserDetails get(String username) {
+        return cache.get(username, this::load);
+    }
+    
+    /**
+     * 사용자 캐시 무효화
+     */
+    public void evict(String username) {
+        cache.invalidate(username);
+        log.debug("사용자 캐시 무효화: {}", username);
+    }
+    
+    private UserDetails load(String username) {
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+        return User.withUsername(loaded.getUsername())
+                .password("")
+                .authorities(loaded.getAuthorities())
+                .disabled(!loaded.isEnabled())
+                .accountLocked(!loaded.isAccountNonLocked())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.totalexam.security;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.totalexam.entity.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User 엔티티 변경 시 인증 주체 캐시를 무효화하는 JPA 엔티티 리스너
+ * (권한/활성 상태가 바뀐 사용자가 캐시된 권한으로 인증되지 않도록)
+ * 커밋 전에 비우면 그 사이 다른 요청이 이전 상태를 다시 캐싱하므로 커밋 후에 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCacheListener {
+    
+    // EntityManagerFactory 초기화 시점의 순환 의존을 피하기 위해 지연 조회
+    private final ObjectProvider<UserPrincipalCache> userPrincipalCache;
+    
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        String username = user.getUsername();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        } else {
+            evict(username);
+        }
+    }
+    
+    private void evict(String username) {
+        userPrincipalCache.ifAvailable(cache -> cache.evict(username));
+    }
+}
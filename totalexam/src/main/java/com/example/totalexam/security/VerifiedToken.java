@@ -0,0 +1,25 @@
+package com.example.totalexam.security;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT 토큰 정보
+ * 한 번의 파싱 결과를 필터 등 여러 호출자가 공유
+ */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    
+    private final String username;
+    
+    /** 토큰의 권한 클레임 (클레임이 없는 이전 토큰이면 빈 목록) */
+    private final List<GrantedAuthority> authorities;
+    
+    private final Date expiration;
+}
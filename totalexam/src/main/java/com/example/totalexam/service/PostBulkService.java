@@ -0,0 +1,194 @@
+package com.example.totalexam.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.example.totalexam.dto.PostImportRecord;
+import com.example.totalexam.dto.PostImportResult;
+import com.example.totalexam.dto.PostResponse;
+import com.example.totalexam.entity.Post;
+import com.example.totalexam.entity.User;
+import com.example.totalexam.repository.PostRepository;
+import com.example.totalexam.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 대량 가져오기/내보내기 서비스 (NDJSON)
+ * 가져오기는 청크 단위 트랜잭션으로 JDBC 배치 INSERT, 내보내기는 DB 커서 스트리밍
+ */
+@Service
+@Slf4j
+public class PostBulkService {
+    
+    private static final int MAX_ERRORS = 100;
+    
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostSearchEngine postSearchEngine;
+    private final PostStatsService postStatsService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    
+    public PostBulkService(PostRepository postRepository,
+                           UserRepository userRepository,
+                           PostSearchEngine postSearchEngine,
+                           PostStatsService postStatsService,
+                           ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${posts.bulk.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.postSearchEngine = postSearchEngine;
+        this.postStatsService = postStatsService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * NDJSON 게시글 가져오기
+     * 한 줄에 게시글 하나(PostImportRecord)이며, 잘못된 줄은 건너뛰고 오류로 보고
+     */
+    public PostImportResult importPosts(InputStream input, Authentication authentication) throws IOException {
+        long startNanos = System.nanoTime();
+        Map<String, User> authors = new HashMap<>();
+        List<Post> chunk = new ArrayList<>(chunkSize);
+        List<String> errors = new ArrayList<>();
+        long imported = 0;
+        long failed = 0;
+        int chunks = 0;
+        long lineNumber = 0;
+        
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    PostImportRecord record = objectMapper.readValue(line, PostImportRecord.class);
+                    chunk.add(toPost(record, authentication.getName(), authors));
+                } catch (IOException | IllegalArgumentException ex) {
+                    failed++;
+                    addError(errors, lineNumber + "번째 줄: " + ex.getMessage());
+                }
+                
+                if (chunk.size() >= chunkSize) {
+                    chunks++;
+                    long saved = saveChunk(chunk, chunks, errors);
+                    imported += saved;
+                    failed += chunk.size() - saved;
+                    log.info("게시글 가져오기 진행: {} chunks, {} imported, {} failed", chunks, imported, failed);
+                    chunk.clear();
+                }
+            }
+        }
+        
+        if (!chunk.isEmpty()) {
+            chunks++;
+            long saved = saveChunk(chunk, chunks, errors);
+            imported += saved;
+            failed += chunk.size() - saved;
+        }
+        
+        long elapsedMillis = Math.max((System.nanoTime() - startNanos) / 1_000_000, 1);
+        double rowsPerSecond = imported * 1000.0 / elapsedMillis;
+        log.info("게시글 가져오기 완료: {} imported, {} failed, {} ms ({} rows/s) by {}",
+                imported, failed, elapsedMillis, String.format("%.1f", rowsPerSecond), authentication.getName());
+        
+        return new PostImportResult(imported, failed, chunks, elapsedMillis, rowsPerSecond, errors);
+    }
+    
+    /**
+     * 전체 게시글을 NDJSON으로 내보내기
+     * DTO 프로젝션을 스트리밍하므로 영속성 컨텍스트와 힙 사용량이 게시글 수와 무관
+     */
+    @Transactional(readOnly = true)
+    public long exportPosts(OutputStream output) throws IOException {
+        long count = 0;
+        try (Stream<PostResponse> posts = postRepository.streamAllPostResponses()) {
+            Iterator<PostResponse> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                output.write(objectMapper.writeValueAsBytes(iterator.next()));
+                output.write('\n');
+                if (++count % chunkSize == 0) {
+                    output.flush();
+                }
+            }
+        }
+        output.flush();
+        
+        log.info("게시글 내보내기 완료: {} posts", count);
+        return count;
+    }
+    
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장 (hibernate.jdbc.batch_size 단위 배치 INSERT)
+     * 커밋 후 검색 색인과 작성자 통계에 반영하고 저장된 건수를 반환
+     */
+    private long saveChunk(List<Post> chunk, int chunkNumber, List<String> errors) {
+        try {
+            List<Post> saved = transactionTemplate.execute(status -> postRepository.saveAll(chunk));
+            saved.forEach(post -> {
+                postSearchEngine.index(post.getId(), post.getTitle(), post.getContent());
+                postStatsService.onPostCreated(post.getAuthor().getUsername(), post.getCreatedAt());
+            });
+            return saved.size();
+        } catch (DataAccessException ex) {
+            log.warn("게시글 가져오기 청크 실패: {} - {}", chunkNumber, ex.getMessage());
+            addError(errors, chunkNumber + "번째 청크 저장 실패: " + ex.getMostSpecificCause().getMessage());
+            return 0;
+        }
+    }
+    
+    private Post toPost(PostImportRecord record, String requester, Map<String, User> authors) {
+        if (!StringUtils.hasText(record.getTitle()) || record.getTitle().length() > 200) {
+            throw new IllegalArgumentException("제목은 필수이며 200자를 초과할 수 없습니다");
+        }
+        if (!StringUtils.hasText(record.getContent())) {
+            throw new IllegalArgumentException("내용은 필수입니다");
+        }
+        
+        String username = StringUtils.hasText(record.getAuthorUsername()) ? record.getAuthorUsername() : requester;
+        User author = authors.computeIfAbsent(username, name -> userRepository.findByUsername(name).orElse(null));
+        if (author == null) {
+            authors.remove(username);
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username);
+        }
+        
+        Post post = new Post(record.getTitle(), record.getContent(), author);
+        if (record.getCreatedAt() != null) {
+            post.setCreatedAt(record.getCreatedAt());
+        }
+        return post;
+    }
+    
+    private void addError(List<String> errors, String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(message);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.totalexam.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.totalexam.repository.PostRepository;
+import com.example.totalexam.repository.PostSearchDocument;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 전문 검색 엔진
+ * 제목/내용을 n-gram으로 토큰화한 메모리 역색인(inverted index)으로
+ * LIKE '%keyword%' 전체 스캔 없이 검색하고 TF-IDF 점수로 정렬
+ * bi-gram을 모두 포함해도 원문에 검색어가 없을 수 있으므로("ab…bc"는 "abc"의 bi-gram을 모두 포함)
+ * 세 글자 이상 단어가 있으면 후보의 제목/내용을 DB에서 읽어 다시 확인한다 (원문은 힙에 보관하지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchEngine {
+    
+    /** 제목에서 나온 토큰의 가중치 */
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    /** 후보 확인 시 한 번에 DB에서 읽는 게시글 수 */
+    private static final int VERIFY_BATCH_SIZE = 500;
+    
+    private final PostRepository postRepository;
+    
+    private SearchIndex index = new SearchIndex();
+    /** 재구축 중 들어온 색인 변경 (재구축 중이 아니면 null), 교체 직전에 새 색인에 다시 적용 */
+    private List<Consumer<SearchIndex>> pendingChanges;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * 애플리케이션 시작 시 게시글 테이블로부터 색인 구축
+     * 엔티티 대신 ID/제목/내용 프로젝션을 스트리밍으로 읽고, 새 색인을 만든 뒤 한 번에 교체
+     * 읽는 동안 들어온 index()/remove()는 기록해 두었다가 교체 직전에 새 색인에 다시 적용한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        SearchIndex rebuilt = new SearchIndex();
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        try (Stream<PostSearchDocument> documents = postRepository.streamSearchDocuments()) {
+            documents.forEach(document ->
+                    rebuilt.add(document.getId(), document.getTitle(), document.getContent()));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            replayed = pendingChanges.size();
+            pendingChanges.forEach(change -> change.accept(rebuilt));
+            pendingChanges = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 구축 완료: {} posts, {} terms (재구축 중 변경 {} 건 반영)",
+                rebuilt.documents.size(), rebuilt.postings.size(), replayed);
+    }
+    
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     */
+    public void index(Long postId, String title, String content) {
+        apply(target -> {
+            target.remove(postId);
+            target.add(postId, title, content);
+        });
+    }
+    
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long postId) {
+        apply(target -> target.remove(postId));
+    }
+    
+    private void apply(Consumer<SearchIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 키워드 검색 (점수 내림차순, 페이징)
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        List<Long> ranked = searchAll(keyword);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(ranked.subList(from, to), pageable, ranked.size());
+    }
+    
+    /**
+     * 키워드 검색 (점수 내림차순, 전체)
+     * 키워드의 모든 단어를 제목 또는 내용에 포함하는 게시글만 반환
+     */
+    public List<Long> searchAll(String keyword) {
+        Set<String> queryTerms = tokenize(keyword);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        List<String> queryWords = new ArrayList<>();
+        forEachWord(keyword, queryWords::add);
+        
+        List<Long> candidates;
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(index.documents.size(), 1);
+            Map<Long, Double> scores = null;
+            
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = index.postings.getOrDefault(term, Map.of());
+                if (posting.isEmpty()) {
+                    return List.of();
+                }
+                double idf = Math.log(1.0 + (double) documentCount / posting.size());
+                
+                Map<Long, Double> next = new HashMap<>();
+                if (scores == null) {
+                    posting.forEach((id, tf) -> next.put(id, tf * idf));
+                } else {
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        Integer tf = posting.get(entry.getKey());
+                        if (tf != null) {
+                            next.put(entry.getKey(), entry.getValue() + tf * idf);
+                        }
+                    }
+                }
+                if (next.isEmpty()) {
+                    return List.of();
+                }
+                scores = next;
+            }
+            
+            List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.entrySet());
+            entries.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())));
+            candidates = entries.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        // 두 글자 이하 단어는 uni-gram/bi-gram 일치가 곧 부분 문자열 일치
+        if (queryWords.stream().allMatch(word -> word.length() <= 2)) {
+            return candidates;
+        }
+        return verify(candidates, queryWords);
+    }
+    
+    /**
+     * n-gram 교집합은 후보일 뿐이므로 DB의 제목/내용에 검색어가 실제로 있는지 확인
+     * 순위 순서를 유지하며, 확인 중 삭제된 게시글은 제외
+     */
+    private List<Long> verify(List<Long> candidates, List<String> queryWords) {
+        List<Long> verified = new ArrayList<>(candidates.size());
+        for (int from = 0; from < candidates.size(); from += VERIFY_BATCH_SIZE) {
+            List<Long> batch = candidates.subList(from, Math.min(from + VERIFY_BATCH_SIZE, candidates.size()));
+            Map<Long, PostSearchDocument> documents = new HashMap<>();
+            postRepository.findSearchDocumentsByIdIn(batch).forEach(document -> documents.put(document.getId(), document));
+            for (Long id : batch) {
+                PostSearchDocument document = documents.get(id);
+                if (document != null && containsAll(document, queryWords)) {
+                    verified.add(id);
+                }
+            }
+        }
+        return verified;
+    }
+    
+    private static boolean containsAll(PostSearchDocument document, List<String> words) {
+        String title = normalize(document.getTitle());
+        String content = normalize(document.getContent());
+        for (String word : words) {
+            if (!title.contains(word) && !content.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 검색어를 조회 토큰으로 분해
+     * 문자/숫자 연속 구간마다 2-gram을 생성 (한글은 형태소 분석 없이 음절 bi-gram으로 부분 일치 지원),
+     * 한 글자 구간은 그대로 토큰으로 사용
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachWord(text, word -> {
+            if (word.length() == 1) {
+                terms.add(word);
+            } else {
+                forEachBigram(word, terms::add);
+            }
+        });
+        return terms;
+    }
+    
+    /**
+     * 색인 토큰 생성
+     * 한 글자 검색어도 어휘 전체를 훑지 않고 바로 찾도록 bi-gram과 함께 모든 음절(uni-gram)을 색인
+     */
+    private static void forEachIndexTerm(String text, Consumer<String> consumer) {
+        forEachWord(text, word -> {
+            for (int i = 0; i < word.length(); i++) {
+                consumer.accept(word.substring(i, i + 1));
+            }
+            forEachBigram(word, consumer);
+        });
+    }
+    
+    private static void forEachBigram(String word, Consumer<String> consumer) {
+        for (int j = 0; j + 2 <= word.length(); j++) {
+            consumer.accept(word.substring(j, j + 2));
+        }
+    }
+    
+    /**
+     * 소문자로 정규화한 문자/숫자 연속 구간(단어) 순회
+     */
+    private static void forEachWord(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        String normalized = normalize(text);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                consumer.accept(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+    }
+    
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 역색인
+     * 시작 시 재구축은 새 인스턴스를 채운 뒤 교체하므로 검색이 구축 완료를 기다리지 않는다
+     */
+    private static class SearchIndex {
+        
+        /** 토큰 -> (게시글 ID -> 가중 빈도) */
+        final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        /** 게시글 ID -> 색인된 토큰 (삭제/수정 시 역색인 정리용) */
+        final Map<Long, Set<String>> documents = new HashMap<>();
+        
+        void add(Long postId, String title, String content) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            forEachIndexTerm(title, term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+            forEachIndexTerm(content, term -> frequencies.merge(term, CONTENT_WEIGHT, Integer::sum));
+            
+            frequencies.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, k -> new HashMap<>()).put(postId, tf));
+            documents.put(postId, Set.copyOf(frequencies.keySet()));
+        }
+        
+        void remove(Long postId) {
+            Set<String> terms = documents.remove(postId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(postId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
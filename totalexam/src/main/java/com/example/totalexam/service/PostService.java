@@ -1,9 +1,19 @@
 package com.example.totalexam.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -11,11 +21,18 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+import com.example.totalexam.config.CacheConfig;
+import com.example.totalexam.dto.PostCursor;
 import com.example.totalexam.dto.PostRequest;
 import com.example.totalexam.dto.PostResponse;
+import com.example.totalexam.dto.PostSliceResponse;
 import com.example.totalexam.entity.Post;
 import com.example.totalexam.entity.User;
+import com.example.totalexam.exception.InvalidPageRequestException;
 import com.example.totalexam.repository.PostRepository;
 import com.example.totalexam.repository.UserRepository;
 
@@ -30,8 +47,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PostService {
     
+    /** 검색 결과 스트리밍 시 한 번에 조회할 게시글 수 */
+    private static final int STREAM_BATCH_SIZE = 500;
+    
+    /** 커서 페이징 한 번에 조회할 수 있는 최대 게시글 수 */
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostSearchEngine postSearchEngine;
+    private final PostStatsService postStatsService;
+    private final CacheManager cacheManager;
     
     /**
      * 게시글 생성
@@ -44,25 +70,62 @@ public class PostService {
         
         Post post = new Post(postRequest.getTitle(), postRequest.getContent(), author);
         Post savedPost = postRepository.save(post);
+        afterCommit(() -> {
+            postSearchEngine.index(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+            postStatsService.onPostCreated(username, savedPost.getCreatedAt());
+        });
         
-        log.info("게시글 생성 완료: {} by {}", savedPost.getId(), username);
+        log.debug("게시글 생성 완료: {} by {}", savedPost.getId(), username);
         return new PostResponse(savedPost);
     }
     
     /**
      * 모든 게시글 조회 (페이징)
+     * 작성 시각이 같은 게시글은 id 역순으로 정렬해 페이지 경계에서 중복/누락이 없게 한다
      */
     @Transactional(readOnly = true)
     public Page<PostResponse> getAllPosts(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Post> postPage = postRepository.findAllByOrderByCreatedAtDesc(pageable);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        
+        return postRepository.findAllPostResponses(pageable);
+    }
+    
+    /**
+     * 모든 게시글 조회 (커서 페이징)
+     * OFFSET 스캔과 COUNT 쿼리 없이 (createdAt, id) 인덱스로 다음 구간만 조회
+     * size는 1 이상이어야 하며 MAX_CURSOR_PAGE_SIZE를 넘으면 그 값으로 제한
+     */
+    @Transactional(readOnly = true)
+    public PostSliceResponse getPostsByCursor(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidPageRequestException("페이지 크기는 1 이상이어야 합니다: " + size);
+        }
+        size = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostResponse> posts;
+        if (StringUtils.hasText(cursor)) {
+            PostCursor decoded = PostCursor.decode(cursor);
+            posts = postRepository.findSliceBefore(decoded.getCreatedAt(), decoded.getId(), limit);
+        } else {
+            posts = postRepository.findLatestSlice(limit);
+        }
         
-        return postPage.map(PostResponse::new);
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        
+        String nextCursor = hasNext ? PostCursor.of(posts.get(posts.size() - 1)).encode() : null;
+        
+        return new PostSliceResponse(posts, nextCursor, hasNext, posts.size());
     }
     
     /**
-     * 게시글 상세 조회
+     * 게시글 상세 조회 (캐시 미적중 시에만 DB 조회)
      */
+    @Cacheable(cacheNames = CacheConfig.POSTS_CACHE, key = "#id")
     @Transactional(readOnly = true)
     public PostResponse getPost(Long id) {
         Post post = postRepository.findById(id)
@@ -93,7 +156,11 @@ public class PostService {
         post.preUpdate(); // 수정 시간 업데이트
         
         Post updatedPost = postRepository.save(post);
-        log.info("게시글 수정 완료: {} by {}", id, username);
+        afterCommit(() -> {
+            postSearchEngine.index(id, updatedPost.getTitle(), updatedPost.getContent());
+            evictPostCache(id);
+        });
+        log.debug("게시글 수정 완료: {} by {}", id, username);
         
         return new PostResponse(updatedPost);
     }
@@ -115,34 +182,102 @@ public class PostService {
             throw new AccessDeniedException("게시글 삭제 권한이 없습니다");
         }
         
+        String authorUsername = post.getAuthor().getUsername();
+        LocalDateTime createdAt = post.getCreatedAt();
         postRepository.deleteById(id);
-        log.info("게시글 삭제 완료: {} by {} (admin: {})", id, username, isAdmin);
+        afterCommit(() -> {
+            postSearchEngine.remove(id);
+            postStatsService.onPostDeleted(authorUsername, createdAt);
+            evictPostCache(id);
+        });
+        log.debug("게시글 삭제 완료: {} by {} (admin: {})", id, username, isAdmin);
     }
     
     /**
-     * 게시글 검색
+     * 게시글 검색 (검색 색인 기반, 관련도순 전체 스트리밍)
+     * 결과를 목록으로 모으지 않고 STREAM_BATCH_SIZE 단위로 조회하여 consumer에 전달
      */
     @Transactional(readOnly = true)
-    public List<PostResponse> searchPosts(String keyword) {
-        List<Post> posts = postRepository.findByTitleOrContentContaining(keyword);
+    public void streamSearchResults(String keyword, Consumer<PostResponse> consumer) {
+        List<Long> ids = postSearchEngine.searchAll(keyword);
         
-        return posts.stream()
-                .map(PostResponse::new)
-                .collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += STREAM_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + STREAM_BATCH_SIZE, ids.size()));
+            findPostsInOrder(batch).forEach(consumer);
+        }
     }
     
     /**
-     * 사용자별 게시글 조회
+     * 게시글 검색 (검색 색인 기반, 관련도순 페이징)
      */
     @Transactional(readOnly = true)
-    public List<PostResponse> getPostsByUser(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+    public Page<PostResponse> searchPosts(String keyword, int page, int size) {
+        Page<Long> idPage = postSearchEngine.search(keyword, PageRequest.of(page, size));
+        List<PostResponse> content = findPostsInOrder(idPage.getContent());
         
-        List<Post> posts = postRepository.findByAuthor(user);
+        return new PageImpl<>(content, idPage.getPageable(), idPage.getTotalElements());
+    }
+    
+    /**
+     * 사용자 존재 여부 확인 (스트리밍 응답 시작 전 404 처리용)
+     */
+    @Transactional(readOnly = true)
+    public void requireUser(String username) {
+        if (!userRepository.existsByUsername(username)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + username);
+        }
+    }
+    
+    /**
+     * 사용자별 게시글 조회 (DB 커서 스트리밍)
+     * 결과 크기와 무관하게 일정한 메모리로 consumer에 전달
+     */
+    @Transactional(readOnly = true)
+    public void streamPostsByUser(String username, Consumer<PostResponse> consumer) {
+        try (Stream<PostResponse> posts = postRepository.streamPostResponsesByAuthorUsername(username)) {
+            posts.forEach(consumer);
+        }
+    }
+    
+    /**
+     * ID 목록 순서(검색 순위)대로 게시글 조회
+     */
+    private List<PostResponse> findPostsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostResponse> postMap = postRepository.findPostResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostResponse::getId, Function.identity()));
         
-        return posts.stream()
-                .map(PostResponse::new)
+        return ids.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 게시글 상세 캐시 무효화 (커밋 이후 호출하여 이전 내용이 다시 캐싱되지 않도록)
+     */
+    private void evictPostCache(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.POSTS_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+    
+    /**
+     * 트랜잭션 커밋 이후 실행 (롤백 시 검색 색인이 어긋나지 않도록)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.totalexam.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.totalexam.dto.AuthorStatsResponse;
+import com.example.totalexam.repository.AuthorPostAggregate;
+import com.example.totalexam.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작성자별 게시글 통계 서비스
+ * 시작 시 한 번 집계한 뒤 게시글 생성/삭제 시 증분 갱신하여, 조회 시 posts 테이블을 읽지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostStatsService {
+    
+    private final PostRepository postRepository;
+    
+    private volatile Map<String, AuthorStats> statsByAuthor = new ConcurrentHashMap<>();
+    
+    /**
+     * 애플리케이션 시작 시 게시글 테이블로부터 통계 재구축
+     * 새 맵을 따로 채운 뒤 교체하여, 재구축 중에도 조회가 빈 통계를 보지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<AuthorPostAggregate> aggregates = postRepository.aggregateByAuthor();
+        Map<String, AuthorStats> rebuilt = new ConcurrentHashMap<>();
+        aggregates.forEach(aggregate -> rebuilt.put(aggregate.getUsername(), AuthorStats.of(aggregate)));
+        statsByAuthor = rebuilt;
+        log.info("작성자별 게시글 통계 구축 완료: {} authors", aggregates.size());
+    }
+    
+    /**
+     * 게시글 생성 반영
+     */
+    public void onPostCreated(String username, LocalDateTime createdAt) {
+        statsByAuthor.compute(username, (key, stats) -> {
+            AuthorStats updated = stats != null ? stats : new AuthorStats();
+            updated.add(createdAt);
+            return updated;
+        });
+    }
+    
+    /**
+     * 게시글 삭제 반영
+     * 삭제된 게시글이 첫/마지막 게시글이면 해당 작성자의 범위만 인덱스 범위 조회로 다시 읽음.
+     * 같은 작성자의 생성 반영은 compute 안의 재집계가 끝날 때까지 기다리므로 사라지지 않고,
+     * 게시글 수는 메모리 값을 유지하여 재집계 시점에 이미 커밋된 생성이 두 번 세어지지 않음
+     */
+    public void onPostDeleted(String username, LocalDateTime createdAt) {
+        statsByAuthor.computeIfPresent(username, (key, stats) -> {
+            if (stats.remove(createdAt)) {
+                postRepository.aggregateByAuthorUsername(username).ifPresent(stats::refreshRange);
+            }
+            return stats.isEmpty() ? null : stats;
+        });
+    }
+    
+    /**
+     * 작성자 통계 조회 (O(1))
+     */
+    public AuthorStatsResponse getStats(String username) {
+        AuthorStats stats = statsByAuthor.get(username);
+        if (stats == null) {
+            return new AuthorStatsResponse(username, 0, null, null, 0.0);
+        }
+        return stats.toResponse(username);
+    }
+    
+    /**
+     * 전체 작성자 통계 조회 (게시글 수 내림차순)
+     */
+    public List<AuthorStatsResponse> getAllStats() {
+        return statsByAuthor.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingLong(AuthorStatsResponse::getPostCount).reversed())
+                .toList();
+    }
+    
+    /**
+     * 작성자 한 명의 누적 통계
+     * 갱신은 맵의 compute 안에서만 하고, 조회와의 가시성을 위해 메서드 단위 동기화
+     */
+    private static class AuthorStats {
+        
+        private long postCount;
+        private LocalDateTime firstPostAt;
+        private LocalDateTime lastPostAt;
+        
+        static AuthorStats of(AuthorPostAggregate aggregate) {
+            AuthorStats stats = new AuthorStats();
+            stats.postCount = aggregate.getPostCount();
+            stats.firstPostAt = aggregate.getFirstPostAt();
+            stats.lastPostAt = aggregate.getLastPostAt();
+            return stats;
+        }
+        
+        synchronized void add(LocalDateTime createdAt) {
+            postCount++;
+            if (firstPostAt == null || createdAt.isBefore(firstPostAt)) {
+                firstPostAt = createdAt;
+            }
+            if (lastPostAt == null || createdAt.isAfter(lastPostAt)) {
+                lastPostAt = createdAt;
+            }
+        }
+        
+        /**
+         * 게시글 수 감소, 첫/마지막 게시글 시각을 다시 계산해야 하면 true
+         */
+        synchronized boolean remove(LocalDateTime createdAt) {
+            postCount = Math.max(postCount - 1, 0);
+            return postCount > 0 && (!createdAt.isAfter(firstPostAt) || !createdAt.isBefore(lastPostAt));
+        }
+        
+        /**
+         * 첫/마지막 게시글 시각만 다시 집계한 값으로 교체
+         */
+        synchronized void refreshRange(AuthorPostAggregate aggregate) {
+            firstPostAt = aggregate.getFirstPostAt();
+            lastPostAt = aggregate.getLastPostAt();
+        }
+        
+        synchronized boolean isEmpty() {
+            return postCount == 0;
+        }
+        
+        synchronized AuthorStatsResponse toResponse(String username) {
+            double postsPerDay = 0.0;
+            if (firstPostAt != null) {
+                long days = Math.max(Duration.between(firstPostAt, LocalDateTime.now()).toDays() + 1, 1);
+                postsPerDay = (double) postCount / days;
+            }
+            return new AuthorStatsResponse(username, postCount, firstPostAt, lastPostAt, postsPerDay);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.totalexam.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 감사 로그 파이프라인 단위 테스트
+ * 버퍼 초과로 버린 이벤트와 직렬화에 실패한 이벤트가 각각 다른 카운터로 집계되는지 확인
+ */
+class AuditEventPublisherTest {
+    
+    private static final String UNSERIALIZABLE = "unserializable";
+    
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @Test
+    void dropsEventsWhenBufferIsFull() throws InterruptedException {
+        AuditEventPublisher publisher = new AuditEventPublisher(new ObjectMapper().findAndRegisterModules(),
+                                                                meterRegistry, 2, 256, 50);
+        
+        // 기록 스레드를 시작하기 전이므로 버퍼에 그대로 쌓임
+        publisher.publish(AuditAction.POST_VIEW, "1");
+        publisher.publish(AuditAction.POST_VIEW, "2");
+        publisher.publish(AuditAction.POST_VIEW, "3");
+        
+        assertThat(count("audit.events.published")).isEqualTo(2);
+        assertThat(count("audit.events.dropped")).isEqualTo(1);
+        
+        publisher.start();
+        publisher.stop();
+        
+        assertThat(count("audit.events.written")).isEqualTo(2);
+        assertThat(count("audit.events.failed")).isZero();
+    }
+    
+    @Test
+    void countsSerializationFailuresSeparately() throws InterruptedException {
+        AuditEventPublisher publisher = new AuditEventPublisher(new FailingObjectMapper(), meterRegistry, 16, 256, 50);
+        
+        publisher.publish(AuditAction.POST_VIEW, "1");
+        publisher.publish(AuditAction.POST_VIEW, UNSERIALIZABLE);
+        publisher.publish(AuditAction.POST_VIEW, "2");
+        publisher.start();
+        publisher.stop();
+        
+        assertThat(count("audit.events.published")).isEqualTo(3);
+        assertThat(count("audit.events.written")).isEqualTo(2);
+        assertThat(count("audit.events.failed")).isEqualTo(1);
+        assertThat(count("audit.events.dropped")).isZero();
+    }
+    
+    private double count(String name) {
+        return meterRegistry.counter(name).count();
+    }
+    
+    /**
+     * 대상이 UNSERIALIZABLE인 이벤트만 직렬화에 실패하는 ObjectMapper
+     */
+    private static class FailingObjectMapper extends ObjectMapper {
+        
+        private static final long serialVersionUID = 1L;
+        
+        FailingObjectMapper() {
+            findAndRegisterModules();
+        }
+        
+        @Override
+        public String writeValueAsString(Object value) throws JsonProcessingException {
+            if (value instanceof AuditEvent event && UNSERIALIZABLE.equals(event.getTarget())) {
+                throw new JsonProcessingException("직렬화 실패") {
+                    private static final long serialVersionUID = 1L;
+                };
+            }
+            return super.writeValueAsString(value);
+        }
+    }
+}
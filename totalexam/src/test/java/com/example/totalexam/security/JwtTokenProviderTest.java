@@ -0,0 +1,91 @@
+package com.example.totalexam.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * JWT 토큰 파싱/서명 검증 단위 테스트
+ */
+class JwtTokenProviderTest {
+    
+    private static final String SECRET = "totalexam-secret-key-for-jwt-token-generation-and-validation-very-long-key";
+    private static final String OTHER_SECRET = "another-secret-key-that-is-also-long-enough-for-hs512-signatures-0001";
+    
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 100);
+    
+    @Test
+    void acceptsValidTokenAndCachesTheResult() {
+        String token = provider.generateToken(authentication("user1", "ROLE_USER"));
+        
+        VerifiedToken verified = provider.parseAndValidate(token).orElseThrow();
+        
+        assertThat(verified.getUsername()).isEqualTo("user1");
+        assertThat(verified.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(provider.parseAndValidate(token)).containsSame(verified);
+    }
+    
+    @Test
+    void rejectsExpiredToken() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1_000, 100);
+        String token = expiredProvider.generateToken(authentication("user1", "ROLE_USER"));
+        
+        assertThat(expiredProvider.parseAndValidate(token)).isEmpty();
+        assertThat(provider.parseAndValidate(token)).isEmpty();
+    }
+    
+    @Test
+    void rejectsTamperedPayloadEvenAfterOriginalWasCached() {
+        String token = provider.generateToken(authentication("user1", "ROLE_USER"));
+        assertThat(provider.parseAndValidate(token)).isPresent();
+        
+        String[] parts = token.split("\\.");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String payload = new String(decoder.decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("ROLE_USER", "ROLE_ADMIN");
+        String tampered = parts[0] + "." + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+        
+        assertThat(provider.parseAndValidate(tampered)).isEmpty();
+    }
+    
+    @Test
+    void rejectsTamperedSignature() {
+        String token = provider.generateToken(authentication("user1", "ROLE_USER"));
+        int last = token.length() - 2;
+        String tampered = token.substring(0, last) + (token.charAt(last) == 'A' ? 'B' : 'A') + token.substring(last + 1);
+        
+        assertThat(provider.parseAndValidate(tampered)).isEmpty();
+        assertThat(provider.validateToken(tampered)).isFalse();
+    }
+    
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(OTHER_SECRET, 60_000, 100);
+        String token = otherProvider.generateToken(authentication("admin", "ROLE_ADMIN"));
+        
+        assertThat(provider.parseAndValidate(token)).isEmpty();
+    }
+    
+    @Test
+    void rejectsMalformedOrBlankToken() {
+        assertThat(provider.parseAndValidate("not-a-jwt")).isEmpty();
+        assertThat(provider.parseAndValidate(" ")).isEmpty();
+        assertThat(provider.parseAndValidate(null)).isEmpty();
+    }
+    
+    private static UsernamePasswordAuthenticationToken authentication(String username, String role) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+        User principal = new User(username, "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+}
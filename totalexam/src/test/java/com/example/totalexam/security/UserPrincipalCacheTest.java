@@ -0,0 +1,87 @@
+package com.example.totalexam.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.totalexam.entity.User;
+import com.example.totalexam.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JWT 인증 주체 캐시 검증
+ * 반복 인증은 SQL 없이 처리되고, 사용자 변경은 커밋 이후에 캐시에서 제거되는지 확인
+ * (사용자 권한을 바꾸므로 별도 인메모리 DB 사용)
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.url=jdbc:h2:mem:principalcache;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"
+})
+class UserPrincipalCacheTest {
+    
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @Test
+    void repeatedAuthenticationIssuesNoQueries() {
+        assertThat(countQueries(() -> userPrincipalCache.get("user2"))).isPositive();
+        assertThat(countQueries(() -> userPrincipalCache.get("user2"))).isZero();
+        assertThat(userPrincipalCache.get("user2").getPassword()).isEmpty();
+    }
+    
+    @Test
+    void userUpdateEvictsPrincipalAfterCommit() {
+        assertThat(roleOf(userPrincipalCache.get("john"))).isEqualTo("ROLE_USER");
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User john = userRepository.findByUsername("john").orElseThrow();
+            john.setRole("ROLE_ADMIN");
+            userRepository.flush();
+            
+            // 커밋 전에는 캐시를 비우지 않음 (다른 요청이 이전 상태를 다시 캐싱하지 않도록)
+            assertThat(countQueries(() -> userPrincipalCache.get("john"))).isZero();
+        });
+        
+        assertThat(countQueries(() -> assertThat(roleOf(userPrincipalCache.get("john"))).isEqualTo("ROLE_ADMIN")))
+                .isPositive();
+    }
+    
+    private static String roleOf(UserDetails userDetails) {
+        return userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElseThrow();
+    }
+    
+    private long countQueries(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
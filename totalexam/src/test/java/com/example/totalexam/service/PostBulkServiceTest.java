@@ -0,0 +1,127 @@
+package com.example.totalexam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.example.totalexam.dto.PostImportRecord;
+import com.example.totalexam.dto.PostImportResult;
+import com.example.totalexam.dto.PostResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 게시글 NDJSON 가져오기/내보내기 왕복 테스트
+ * 청크 크기를 4로 줄여 청크 경계를 확인하고, 게시글을 추가하므로 별도 인메모리 DB 사용
+ */
+@SpringBootTest(properties = {
+        "posts.bulk.chunk-size=4",
+        "spring.datasource.url=jdbc:h2:mem:bulk;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE"
+})
+class PostBulkServiceTest {
+    
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 0);
+    
+    @Autowired
+    private PostBulkService postBulkService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private final Authentication admin = new UsernamePasswordAuthenticationToken("admin", null, List.of());
+    
+    @Test
+    void importThenExportRoundTrips() throws IOException {
+        // 유효한 게시글 9건 사이에 잘못된 줄 2건 (청크 4 + 4 + 1)
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            String author = i % 2 == 0 ? "user2" : null;
+            lines.add(toJson(new PostImportRecord("가져온 게시글 " + i, "내용 " + i, author, CREATED_AT.plusMinutes(i))));
+            if (i == 3) {
+                lines.add(toJson(new PostImportRecord("", "제목 없음", null, null)));
+            }
+            if (i == 6) {
+                lines.add(toJson(new PostImportRecord("없는 사용자", "내용", "nobody", null)));
+            }
+        }
+        
+        PostImportResult result = postBulkService.importPosts(ndjson(lines), admin);
+        
+        assertThat(result.getImported()).isEqualTo(9);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getChunks()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(2)
+                .anySatisfy(error -> assertThat(error).startsWith("4번째 줄"))
+                .anySatisfy(error -> assertThat(error).contains("nobody"));
+        
+        List<PostResponse> imported = export().stream()
+                .filter(post -> post.getTitle().startsWith("가져온 게시글"))
+                .toList();
+        
+        // 초기 데이터(1~10) 이후 시퀀스 블록 하나(pooled-lo, 50개)에서 연속으로 할당
+        // (이 클래스의 가져오기는 모두 합쳐 50건 미만이므로 시퀀스 호출은 한 번뿐)
+        long firstId = imported.get(0).getId();
+        assertThat(firstId).isGreaterThan(10L);
+        assertThat(imported).extracting(PostResponse::getId)
+                .containsExactlyElementsOf(LongStream.range(firstId, firstId + 9).boxed().toList());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT base_value FROM information_schema.sequences WHERE sequence_name = 'posts_seq'", Long.class))
+                .isEqualTo(61L);
+        assertThat(imported).allSatisfy(post -> {
+            int n = Integer.parseInt(post.getTitle().substring("가져온 게시글 ".length()));
+            assertThat(post.getContent()).isEqualTo("내용 " + n);
+            assertThat(post.getAuthorUsername()).isEqualTo(n % 2 == 0 ? "user2" : "admin");
+            assertThat(post.getCreatedAt()).isEqualTo(CREATED_AT.plusMinutes(n));
+        });
+    }
+    
+    @Test
+    void fullLastChunkDoesNotAddEmptyChunk() throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            lines.add(toJson(new PostImportRecord("경계 게시글 " + i, "내용", null, null)));
+        }
+        
+        PostImportResult result = postBulkService.importPosts(ndjson(lines), admin);
+        
+        assertThat(result.getImported()).isEqualTo(8);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(export()).filteredOn(post -> post.getTitle().startsWith("경계 게시글")).hasSize(8);
+    }
+    
+    private List<PostResponse> export() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = postBulkService.exportPosts(output);
+        
+        List<PostResponse> posts = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            posts.add(objectMapper.readValue(line, PostResponse.class));
+        }
+        assertThat(posts).hasSize((int) count);
+        return posts;
+    }
+    
+    private String toJson(PostImportRecord record) throws IOException {
+        return objectMapper.writeValueAsString(record);
+    }
+    
+    private static ByteArrayInputStream ndjson(List<String> lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.totalexam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.totalexam.dto.PostResponse;
+import com.example.totalexam.dto.PostSliceResponse;
+import com.example.totalexam.exception.InvalidPageRequestException;
+
+/**
+ * OFFSET 페이징과 커서 페이징의 깊은 페이지(page=1000) 결과 비교
+ * 다른 대량 적재 테스트와 데이터가 섞이지 않도록 별도 인메모리 DB를 사용한다
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:pagination;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostPaginationBenchmarkTest {
+    
+    private static final int PAGE_SIZE = 10;
+    private static final int TARGET_PAGE = 1000;
+    private static final int SEED_COUNT = 20_000;
+    private static final int TIED_COUNT = 25;
+    
+    @Autowired
+    private PostService postService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeAll
+    void seedPosts() {
+        // data.sql 게시글보다 오래된, 서로 다른 작성 시각을 갖는 게시글 적재
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Object[]> rows = new ArrayList<>(SEED_COUNT);
+        for (int i = 0; i < SEED_COUNT; i++) {
+            rows.add(new Object[] {"벤치마크 게시글 " + i, "내용 " + i, 1L,
+                                   Timestamp.valueOf(base.minusSeconds(i))});
+        }
+        // 가장 오래된 구간에 작성 시각이 모두 같은 게시글
+        Timestamp tied = Timestamp.valueOf(base.minusDays(30));
+        for (int i = 0; i < TIED_COUNT; i++) {
+            rows.add(new Object[] {"같은 시각 게시글 " + i, "내용 " + i, 1L, tied});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO posts (id, title, content, author_id, created_at) " +
+            "VALUES (NEXT VALUE FOR posts_seq, ?, ?, ?, ?)", rows);
+    }
+    
+    @Test
+    void cursorPageMatchesOffsetPageAtDepth() {
+        // 커서 모드로 page=1000 직전까지 이동하며 커서 확보
+        String cursor = null;
+        for (int i = 0; i < TARGET_PAGE; i++) {
+            cursor = postService.getPostsByCursor(cursor, PAGE_SIZE).getNextCursor();
+        }
+        String targetCursor = cursor;
+        
+        Page<PostResponse> offsetPage = postService.getAllPosts(TARGET_PAGE, PAGE_SIZE);
+        PostSliceResponse cursorSlice = postService.getPostsByCursor(targetCursor, PAGE_SIZE);
+        assertThat(cursorSlice.getContent())
+            .extracting(PostResponse::getId)
+            .containsExactlyElementsOf(offsetPage.getContent().stream().map(PostResponse::getId).toList());
+    }
+    
+    @Test
+    void offsetPagesBreakCreatedAtTiesById() {
+        long total = postService.getAllPosts(0, PAGE_SIZE).getTotalElements();
+        int lastPage = (int) ((total - 1) / PAGE_SIZE);
+        
+        List<Long> ids = new ArrayList<>();
+        for (int page = lastPage - 2; page <= lastPage; page++) {
+            postService.getAllPosts(page, PAGE_SIZE).getContent().forEach(post -> ids.add(post.getId()));
+        }
+        
+        // 작성 시각이 같은 마지막 게시글들이 페이지 경계를 넘어도 중복/누락 없이 id 역순으로 나온다
+        List<Long> tiedIds = ids.subList(ids.size() - TIED_COUNT, ids.size());
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(tiedIds).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+    
+    @Test
+    void cursorPageSizeIsValidatedAndClamped() {
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, 0))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> postService.getPostsByCursor(null, -1))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> postService.getPostsByCursor("not a cursor", PAGE_SIZE))
+                .isInstanceOf(InvalidPageRequestException.class);
+        
+        PostSliceResponse clamped = postService.getPostsByCursor(null, 100_000);
+        assertThat(clamped.getContent()).hasSize(PostService.MAX_CURSOR_PAGE_SIZE);
+        assertThat(clamped.isHasNext()).isTrue();
+    }
+}
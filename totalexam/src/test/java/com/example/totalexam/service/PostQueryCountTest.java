@@ -0,0 +1,67 @@
+package com.example.totalexam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 게시글 목록/검색 API의 쿼리 수가 페이지 크기와 무관하게 일정한지 검증 (N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostQueryCountTest {
+    
+    @Autowired
+    private PostService postService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @Test
+    void getAllPostsUsesConstantQueries() {
+        long small = countQueries(() -> postService.getAllPosts(0, 2));
+        long large = countQueries(() -> postService.getAllPosts(0, 8));
+        
+        assertThat(small).isEqualTo(large).isEqualTo(2); // 목록 + COUNT
+    }
+    
+    @Test
+    void getPostsByCursorUsesSingleQuery() {
+        assertThat(countQueries(() -> postService.getPostsByCursor(null, 2))).isEqualTo(1);
+        assertThat(countQueries(() -> postService.getPostsByCursor(null, 8))).isEqualTo(1);
+    }
+    
+    @Test
+    void searchPostsUsesConstantQueries() {
+        long narrow = countQueries(() -> postService.streamSearchResults("JWT", post -> { }));
+        long broad = countQueries(() -> postService.streamSearchResults("Spring", post -> { }));
+        
+        // 후보 확인 쿼리 1번 + 게시글 로딩 쿼리 1번
+        assertThat(narrow).isEqualTo(broad).isEqualTo(2);
+    }
+    
+    @Test
+    void getPostsByUserUsesConstantQueries() {
+        assertThat(countQueries(() -> postService.streamPostsByUser("user1", post -> { }))).isEqualTo(1);
+        assertThat(countQueries(() -> postService.streamPostsByUser("user2", post -> { }))).isEqualTo(1);
+    }
+    
+    private long countQueries(Runnable call) {
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.totalexam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.totalexam.repository.PostRepository;
+import com.example.totalexam.repository.PostSearchDocument;
+
+/**
+ * 게시글 역색인 검색 엔진 단위 테스트
+ * 후보 확인과 재구축에 쓰는 게시글은 메모리의 "테이블"에서 돌려준다
+ */
+class PostSearchEngineTest {
+    
+    private final Map<Long, PostSearchDocument> table = new LinkedHashMap<>();
+    private PostRepository postRepository;
+    private PostSearchEngine engine;
+    
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findSearchDocumentsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(table::get).filter(Objects::nonNull).toList();
+        });
+        engine = new PostSearchEngine(postRepository);
+        save(1L, "Spring Boot 학습기", "스프링 부트를 학습하면서 느낀 점");
+        save(2L, "JWT 인증 구현하기", "Spring Security와 JWT 인증");
+        save(3L, "테스팅 전략", "단위 테스트와 통합 테스트");
+    }
+    
+    @Test
+    void matchesKoreanSubstring() {
+        assertThat(engine.searchAll("학습")).containsExactly(1L);
+        assertThat(engine.searchAll("인증")).containsExactly(2L);
+        assertThat(engine.searchAll("테스트")).containsExactly(3L);
+    }
+    
+    @Test
+    void ranksTitleMatchesFirst() {
+        assertThat(engine.searchAll("spring")).containsExactly(1L, 2L);
+    }
+    
+    @Test
+    void rejectsCandidatesThatOnlyShareBigrams() {
+        save(4L, "ab 그리고 bc", "abxbc");
+        save(5L, "abc", "");
+        
+        // "ab", "bc"를 모두 포함하지만 "abc"는 없는 게시글은 제외
+        assertThat(engine.searchAll("abc")).containsExactly(5L);
+        assertThat(engine.searchAll("ab bc")).containsExactlyInAnyOrder(4L, 5L);
+    }
+    
+    @Test
+    void matchesSingleCharacterQueries() {
+        assertThat(engine.searchAll("략")).containsExactly(3L);
+        assertThat(engine.searchAll("j")).containsExactly(2L);
+        assertThat(engine.searchAll("학 부")).containsExactly(1L);
+    }
+    
+    @Test
+    void reflectsUpdateAndRemove() {
+        save(3L, "Spring 테스트", "내용 변경");
+        assertThat(engine.searchAll("spring")).contains(3L);
+        assertThat(engine.searchAll("전략")).isEmpty();
+        
+        table.remove(1L);
+        engine.remove(1L);
+        assertThat(engine.searchAll("학습")).isEmpty();
+    }
+    
+    @Test
+    void paginatesRankedResults() {
+        Page<Long> page = engine.search("spring", PageRequest.of(1, 1));
+        
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactly(2L);
+    }
+    
+    @Test
+    void skipsCandidatesDeletedBeforeVerification() {
+        table.remove(2L);
+        
+        assertThat(engine.searchAll("security")).isEmpty();
+        assertThat(engine.searchAll("인증")).containsExactly(2L);
+    }
+    
+    @Test
+    void rebuildKeepsChangesMadeWhileStreaming() {
+        // 재구축이 1~3번을 읽는 도중 4번이 생성되고 1번이 삭제됨
+        when(postRepository.streamSearchDocuments()).thenAnswer(invocation -> Stream.of(1L, 2L, 3L)
+                .map(id -> {
+                    if (id == 2L) {
+                        save(4L, "재구축 중 생성", "새 게시글");
+                        table.remove(1L);
+                        engine.remove(1L);
+                    }
+                    return table.getOrDefault(id, document(id, "Spring Boot 학습기", "스프링 부트를 학습하면서 느낀 점"));
+                }));
+        
+        engine.rebuild();
+        
+        assertThat(engine.searchAll("재구축")).containsExactly(4L);
+        assertThat(engine.searchAll("학습")).isEmpty();
+        assertThat(engine.searchAll("인증")).containsExactly(2L);
+    }
+    
+    private void save(Long id, String title, String content) {
+        table.put(id, document(id, title, content));
+        engine.index(id, title, content);
+    }
+    
+    private static PostSearchDocument document(Long id, String title, String content) {
+        return new PostSearchDocument() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+            
+            @Override
+            public String getTitle() {
+                return title;
+            }
+            
+            @Override
+            public String getContent() {
+                return content;
+            }
+        };
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.totalexam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.totalexam.dto.AuthorStatsResponse;
+import com.example.totalexam.repository.AuthorPostAggregate;
+import com.example.totalexam.repository.PostRepository;
+
+/**
+ * 작성자별 게시글 통계 증분 갱신 단위 테스트
+ */
+class PostStatsServiceTest {
+    
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime DAY2 = DAY1.plusDays(1);
+    private static final LocalDateTime DAY3 = DAY1.plusDays(2);
+    
+    private PostRepository postRepository;
+    private PostStatsService postStatsService;
+    
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.aggregateByAuthor()).thenReturn(List.of(aggregate("user1", 3, DAY1, DAY3)));
+        postStatsService = new PostStatsService(postRepository);
+        postStatsService.rebuild();
+    }
+    
+    @Test
+    void deletingBoundaryPostRefreshesRangeButKeepsCount() {
+        // 재집계 시점에는 이미 커밋됐지만 아직 반영되지 않은 게시글이 하나 더 보임
+        LocalDateTime pending = DAY3.plusHours(1);
+        when(postRepository.aggregateByAuthorUsername("user1"))
+                .thenReturn(Optional.of(aggregate("user1", 3, DAY2, pending)));
+        
+        postStatsService.onPostDeleted("user1", DAY1);
+        postStatsService.onPostCreated("user1", pending);
+        
+        AuthorStatsResponse stats = postStatsService.getStats("user1");
+        assertThat(stats.getPostCount()).isEqualTo(3);
+        assertThat(stats.getFirstPostAt()).isEqualTo(DAY2);
+        assertThat(stats.getLastPostAt()).isEqualTo(pending);
+    }
+    
+    @Test
+    void deletingLastPostRemovesAuthor() {
+        postStatsService.onPostCreated("user2", DAY1);
+        postStatsService.onPostDeleted("user2", DAY1);
+        
+        assertThat(postStatsService.getAllStats())
+                .extracting(AuthorStatsResponse::getUsername)
+                .containsExactly("user1");
+    }
+    
+    @Test
+    void rebuildReplacesStatsAtOnce() {
+        postStatsService.onPostCreated("user2", DAY1);
+        when(postRepository.aggregateByAuthor()).thenReturn(List.of(aggregate("user3", 1, DAY2, DAY2)));
+        
+        postStatsService.rebuild();
+        
+        assertThat(postStatsService.getAllStats())
+                .extracting(AuthorStatsResponse::getUsername)
+                .containsExactly("user3");
+    }
+    
+    private static AuthorPostAggregate aggregate(String username, long postCount,
+                                                 LocalDateTime firstPostAt, LocalDateTime lastPostAt) {
+        return new AuthorPostAggregate() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+            
+            @Override
+            public Long getPostCount() {
+                return postCount;
+            }
+            
+            @Override
+            public LocalDateTime getFirstPostAt() {
+                return firstPostAt;
+            }
+            
+            @Override
+            public LocalDateTime getLastPostAt() {
+                return lastPostAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.totalexam.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.totalexam.repository.PostRepository;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * 사용자별 게시글 스트리밍이 결과(10만 건)를 목록으로 모으지 않고 한 건씩 전달하는지 검증
+ * 다른 대량 적재 테스트와 데이터가 섞이지 않도록 별도 인메모리 DB를 사용한다
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:streaming;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostStreamingMemoryTest {
+    
+    private static final int POST_COUNT = 100_000;
+    private static final int CONTENT_LENGTH = 400;
+    
+    /** 한 번에 가져오는 행 수 상한 (전체 결과를 한 번에 읽지 않도록) */
+    private static final int MAX_FETCH_SIZE = 1_000;
+    
+    @Autowired
+    private PostService postService;
+    
+    @Autowired
+    private PostRepository postRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @BeforeAll
+    void seedPosts() {
+        // jane(id=5)에게 10만 건의 게시글 적재
+        String content = "가".repeat(CONTENT_LENGTH);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < POST_COUNT; i++) {
+            rows.add(new Object[] {"스트리밍 게시글 " + i, content + i, 5L, createdAt});
+            if (rows.size() == 1000) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+    }
+    
+    @Test
+    void streamQueryUsesBoundedFetchSize() throws NoSuchMethodException {
+        QueryHints hints = PostRepository.class
+                .getMethod("streamPostResponsesByAuthorUsername", String.class)
+                .getAnnotation(QueryHints.class);
+        
+        assertThat(hints.value())
+                .filteredOn(hint -> hint.name().equals("org.hibernate.fetchSize"))
+                .extracting(QueryHint::value)
+                .singleElement()
+                .satisfies(value -> assertThat(Integer.parseInt(value)).isBetween(1, MAX_FETCH_SIZE));
+    }
+    
+    @Test
+    void streamsEveryPostOfTheUser() {
+        long[] delivered = {0};
+        
+        postService.streamPostsByUser("jane", post -> delivered[0]++);
+        
+        assertThat(delivered[0]).isGreaterThanOrEqualTo(POST_COUNT);
+    }
+    
+    @Test
+    void streamsPostsByUserOneRowAtATime() {
+        // 실제 DB 스트림에서 읽은 행 수를 세는 저장소로 서비스 구성
+        AtomicLong read = new AtomicLong();
+        PostRepository countingRepository = mock(PostRepository.class);
+        doAnswer(invocation -> postRepository.streamPostResponsesByAuthorUsername(invocation.getArgument(0))
+                .peek(row -> read.incrementAndGet()))
+            .when(countingRepository).streamPostResponsesByAuthorUsername(anyString());
+        PostService service = new PostService(countingRepository, null, null, null, null);
+        
+        long[] delivered = {0};
+        long[] maxAhead = {0};
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            service.streamPostsByUser("jane", post -> {
+                delivered[0]++;
+                maxAhead[0] = Math.max(maxAhead[0], read.get() - delivered[0]);
+            }));
+        
+        // 목록으로 모았다면 첫 전달 시점에 이미 10만 건을 읽었을 것이다
+        assertThat(delivered[0]).isGreaterThanOrEqualTo(POST_COUNT);
+        assertThat(read.get()).isEqualTo(delivered[0]);
+        assertThat(maxAhead[0]).isZero();
+    }
+    
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO posts (id, title, content, author_id, created_at) " +
+            "VALUES (NEXT VALUE FOR posts_seq, ?, ?, ?, ?)", rows);
+    }
+}